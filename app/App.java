@@ -1,6 +1,8 @@
 package app;
 
 import frames.Welcome;
+import utilities.ResourceSearch;
+import utilities.SentimentService;
 
 import javax.swing.*;
 import java.awt.*;
@@ -25,6 +27,9 @@ public class App {
     }
 
     public static void main(String[] args) {
+        // Load the sentiment models and the resource index while the user signs in
+        SentimentService.getInstance().warmUp();
+        ResourceSearch.warmUp();
         new Welcome();
     }
 
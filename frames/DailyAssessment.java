@@ -1,6 +1,9 @@
 package frames;
 
+import utilities.DataAccess;
 import utilities.Database;
+import utilities.PendingActivities;
+import utilities.QuestionBank;
 import javax.swing.*;
 import javax.swing.border.*;
 import javax.swing.table.DefaultTableCellRenderer;
@@ -77,16 +80,16 @@ public class DailyAssessment extends JFrame {
         mainPanel.setBorder(new EmptyBorder(20, 40, 40, 40));
         mainPanel.setBackground(Color.WHITE);
 
-        // Check if assessment is already completed (unchanged)
-        try {
-            if (hasCompletedToday(username)) {
+        // Check if assessment is already completed
+        DataAccess.supply(() -> hasCompletedToday(username)).whenComplete((completed, failure) -> {
+            if (failure != null) {
+                showError("Database error: " + DataAccess.unwrap(failure).getMessage());
+            } else if (completed) {
                 showCompletionMessage();
             } else {
                 showStartAssessmentButton();
             }
-        } catch (SQLException e) {
-            showError("Database error: " + e.getMessage());
-        }
+        });
 
         add(mainPanel, BorderLayout.CENTER);
 
@@ -199,17 +202,16 @@ public class DailyAssessment extends JFrame {
         analysisButton.addActionListener(e -> showAnalysisDialog());
 
         JButton anotherAssessmentButton = createModernButton("Take Another", PRIMARY_COLOR);
-        anotherAssessmentButton.addActionListener(e -> {
-            try {
-                if (hasMoreQuestionsAvailable(username)) {
-                    startAssessment();
-                } else {
-                    showError("No more unique questions available for today.");
-                }
-            } catch (SQLException ex) {
-                showError("Database error: " + ex.getMessage());
-            }
-        });
+        anotherAssessmentButton.addActionListener(e ->
+                DataAccess.supply(() -> hasMoreQuestionsAvailable(username)).whenComplete((available, failure) -> {
+                    if (failure != null) {
+                        showError("Database error: " + DataAccess.unwrap(failure).getMessage());
+                    } else if (available) {
+                        startAssessment();
+                    } else {
+                        showError("No more unique questions available for today.");
+                    }
+                }));
 
         buttonPanel.add(historyButton);
         buttonPanel.add(analysisButton);
@@ -223,15 +225,7 @@ public class DailyAssessment extends JFrame {
     }
 
     private boolean hasMoreQuestionsAvailable(String username) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM assessment_questions " +
-                "WHERE id NOT IN (SELECT question_id FROM user_asked_questions WHERE username = ? AND asked_date = CURDATE())";
-
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-            return rs.next() && rs.getInt(1) >= QUESTIONS_PER_DAY;
-        }
+        return QuestionBank.countAvailable(username) >= QUESTIONS_PER_DAY;
     }
 
     private SentimentResult getTodaySentiment(String username) {
@@ -257,18 +251,15 @@ public class DailyAssessment extends JFrame {
     }
 
     private void startAssessment() {
-        try {
-            List<Question> questions = getRandomQuestions(username);
-
-            if (questions.isEmpty()) {
+        DataAccess.supply(() -> getRandomQuestions(username)).whenComplete((questions, failure) -> {
+            if (failure != null) {
+                showError("Database error: " + DataAccess.unwrap(failure).getMessage());
+            } else if (questions.isEmpty()) {
                 showError("No questions available for assessment.");
-                return;
+            } else {
+                showAssessmentDialog(questions);
             }
-
-            showAssessmentDialog(questions);
-        } catch (SQLException e) {
-            showError("Database error: " + e.getMessage());
-        }
+        });
     }
 
     private void showAssessmentDialog(List<Question> questions) {
@@ -392,28 +383,33 @@ public class DailyAssessment extends JFrame {
     }
 
     private void processAssessment(Map<Integer, SentimentResult> responses) {
-        try {
-            saveResponses(username, responses);
-            markQuestionsAsAsked(username, responses.keySet());
+        DataAccess.supply(() -> Database.inTransaction(conn -> {
+            saveResponses(conn, username, responses);
+            markQuestionsAsAsked(conn, username, responses.keySet());
 
             // Calculate overall sentiment
             SentimentResult overallSentiment = calculateOverallSentiment(responses.values());
 
             // Save daily summary
-            saveDailySentiment(username, overallSentiment);
+            saveDailySentiment(conn, username, overallSentiment);
+            return overallSentiment;
+        })).whenComplete((overallSentiment, failure) -> {
+            if (failure != null) {
+                showError("Error saving assessment: " + DataAccess.unwrap(failure).getMessage());
+                return;
+            }
+
+            PendingActivities.invalidate(username);
 
             // Show completion message with sentiment
             mainPanel.removeAll();
             showCompletionMessage();
 
             showSubmissionSuccessDialog(overallSentiment);
-
-        } catch (SQLException e) {
-            showError("Error saving assessment: " + e.getMessage());
-        }
+        });
     }
 
-    private void saveDailySentiment(String username, SentimentResult overallSentiment) throws SQLException {
+    private void saveDailySentiment(Connection conn, String username, SentimentResult overallSentiment) throws SQLException {
         String sql = "INSERT INTO user_daily_sentiment (username, date, average_score, dominant_type, average_type, assessment_count) " +
                 "VALUES (?, CURDATE(), ?, ?, ?, 1) " +
                 "ON DUPLICATE KEY UPDATE " +
@@ -422,8 +418,7 @@ public class DailyAssessment extends JFrame {
                 "average_type = ?, " +
                 "assessment_count = assessment_count + 1";
 
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, username);
             stmt.setDouble(2, overallSentiment.score);
             stmt.setString(3, overallSentiment.type); // dominant type
@@ -789,7 +784,8 @@ public class DailyAssessment extends JFrame {
                  PreparedStatement stmt = conn.prepareStatement(
                          "SELECT selected_sentiment, COUNT(*) as count " +
                                  "FROM user_assessment_responses " +
-                                 "WHERE username = ? AND DATE(response_time) = CURDATE() " +
+                                 "WHERE username = ? AND response_time >= CURDATE() " +
+                                 "AND response_time < CURDATE() + INTERVAL 1 DAY " +
                                  "GROUP BY selected_sentiment")) {
 
                 stmt.setString(1, username);
@@ -1113,29 +1109,17 @@ public class DailyAssessment extends JFrame {
 
     private List<Question> getRandomQuestions(String username) throws SQLException {
         List<Question> questions = new ArrayList<>();
-        String sql = "SELECT id, question_text FROM assessment_questions " +
-                "WHERE id NOT IN (SELECT question_id FROM user_asked_questions WHERE username = ? AND asked_date = CURDATE()) " +
-                "ORDER BY RAND() LIMIT ?";
-
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            stmt.setInt(2, QUESTIONS_PER_DAY);
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                questions.add(new Question(rs.getInt("id"), rs.getString("question_text")));
-            }
+        for (int id : QuestionBank.sample(username, QUESTIONS_PER_DAY)) {
+            questions.add(new Question(id, QuestionBank.getText(id)));
         }
         return questions;
     }
 
-    private void saveResponses(String username, Map<Integer, SentimentResult> responses) throws SQLException {
+    private void saveResponses(Connection conn, String username, Map<Integer, SentimentResult> responses) throws SQLException {
         String sql = "INSERT INTO user_assessment_responses (username, question_id, response_time, selected_sentiment, sentiment_score) " +
                 "VALUES (?, ?, NOW(), ?, ?)";
 
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             for (Map.Entry<Integer, SentimentResult> entry : responses.entrySet()) {
                 stmt.setString(1, username);
@@ -1148,12 +1132,11 @@ public class DailyAssessment extends JFrame {
         }
     }
 
-    private void markQuestionsAsAsked(String username, Collection<Integer> questionIds) throws SQLException {
+    private void markQuestionsAsAsked(Connection conn, String username, Collection<Integer> questionIds) throws SQLException {
         String today = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
         String sql = "INSERT INTO user_asked_questions (username, question_id, asked_date) VALUES (?, ?, ?)";
 
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             for (Integer questionId : questionIds) {
                 stmt.setString(1, username);
@@ -1,14 +1,14 @@
 package frames;
 
 import app.App;
-import utilities.Database;
+import utilities.DataAccess;
+import utilities.PendingActivities;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.geom.RoundRectangle2D;
-import java.sql.*;
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 public class Dashboard extends JFrame {
@@ -21,7 +21,8 @@ public class Dashboard extends JFrame {
     private static final Color CARD_SHADOW = new Color(0, 0, 0, 15);
 
     private JLabel badge;
-    private int lastReminderCount = -1;
+    private int reminderCount;
+    private final PendingActivities.Listener reminderListener = this::pendingActivitiesChanged;
 
     public Dashboard(String username) {
         this.username = username;
@@ -36,6 +37,20 @@ public class Dashboard extends JFrame {
         add(createHeaderPanel(), BorderLayout.NORTH);
         add(createMainPanel(), BorderLayout.CENTER);
 
+        PendingActivities.addListener(reminderListener);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowActivated(WindowEvent e) {
+                // Catches the day changing while the dashboard stays open
+                updateNotificationBadge();
+            }
+
+            @Override
+            public void windowClosed(WindowEvent e) {
+                PendingActivities.removeListener(reminderListener);
+            }
+        });
+
         setVisible(true);
 
         // Check for pending reminders
@@ -107,7 +122,7 @@ public class Dashboard extends JFrame {
         badge = new JLabel() {
             @Override
             protected void paintComponent(Graphics g) {
-                int count = getReminderCount();
+                int count = reminderCount;
                 if (count > 0) {
                     Graphics2D g2 = (Graphics2D) g.create();
                     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
@@ -437,48 +452,17 @@ public class Dashboard extends JFrame {
     }
 
     private void checkPendingReminders() {
-        List<String> pendingReminders = getPendingReminders();
-        if (!pendingReminders.isEmpty()) {
-            showReminderDialog(pendingReminders);
-        }
-    }
-
-    private List<String> getPendingReminders() {
-        List<String> pending = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-
-        try {
-            if (!isActivityCompleted("user_assessment_responses", "response_time", today)) {
-                pending.add("Daily Assessment");
-            }
-            if (!isActivityCompleted("mood_logs", "log_time", today)) {
-                pending.add("Mood & Stress Check");
+        DataAccess.supply(() -> PendingActivities.get(username)).whenComplete((pendingReminders, failure) -> {
+            if (failure != null) {
+                JOptionPane.showMessageDialog(this,
+                        "Error checking activities: " + DataAccess.unwrap(failure).getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE);
+                return;
             }
-            if (!isActivityCompleted("journal_entries", "entry_date", today)) {
-                pending.add("Daily Journal");
+            if (!pendingReminders.isEmpty()) {
+                showReminderDialog(pendingReminders);
             }
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Error checking activities: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
-        }
-
-        return pending;
-    }
-
-    private boolean isActivityCompleted(String tableName, String dateColumn, LocalDate date) throws SQLException {
-        String sql = String.format(
-                "SELECT COUNT(*) FROM %s WHERE username = ? AND DATE(%s) = ?",
-                tableName, dateColumn
-        );
-
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(date));
-            ResultSet rs = stmt.executeQuery();
-            return rs.next() && rs.getInt(1) > 0;
-        }
+        });
     }
 
     private void showReminderDialog(List<String> pendingReminders) {
@@ -521,58 +505,15 @@ public class Dashboard extends JFrame {
         updateNotificationBadge();
     }
 
-    private int getReminderCount() {
-        if (lastReminderCount == -1) {
-            lastReminderCount = calculateReminderCount();
-        }
-        return lastReminderCount;
-    }
-
-    private int calculateReminderCount() {
-        try (Connection conn = Database.getConnection()) {
-            int count = 0;
-            LocalDate today = LocalDate.now();
-
-            // Daily Assessment check - using response_time
-            if (!isActivityCompleted(conn, "user_assessment_responses", "response_time", today)) {
-                count++;
-            }
-
-            // Mood Check - using log_time
-            if (!isActivityCompleted(conn, "mood_logs", "log_time", today)) {
-                count++;
-            }
-
-            // Journal Entry check
-            if (!isActivityCompleted(conn, "journal_entries", "entry_date", today)) {
-                count++;
-            }
-
-            return count;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return 0;
-        }
-    }
-
-    private boolean isActivityCompleted(Connection conn, String tableName,
-                                        String dateColumn, LocalDate date) throws SQLException {
-        String sql = String.format(
-                "SELECT COUNT(*) FROM %s WHERE username = ? AND DATE(%s) = ?",
-                tableName, dateColumn
-        );
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(date));
-
-            ResultSet rs = stmt.executeQuery();
-            return rs.next() && rs.getInt(1) > 0;
+    private void pendingActivitiesChanged(String user, List<String> pending) {
+        if (user.equals(username)) {
+            reminderCount = pending.size();
+            badge.repaint();
         }
     }
 
     private void updateNotificationBadge() {
-        lastReminderCount = -1; // Force refresh
-        badge.repaint();
+        // The listener repaints the badge once the state has been loaded
+        PendingActivities.refresh(username);
     }
 }
\ No newline at end of file
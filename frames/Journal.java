@@ -1,24 +1,22 @@
 package frames;
 
 import app.App;
-import edu.stanford.nlp.ling.CoreAnnotations;
-import edu.stanford.nlp.neural.rnn.RNNCoreAnnotations;
-import edu.stanford.nlp.pipeline.Annotation;
-import edu.stanford.nlp.pipeline.StanfordCoreNLP;
-import edu.stanford.nlp.sentiment.SentimentCoreAnnotations;
-import edu.stanford.nlp.trees.Tree;
-import edu.stanford.nlp.util.CoreMap;
-import org.ejml.simple.SimpleMatrix;
+import utilities.ChartCache;
+import utilities.DailyAggregates;
+import utilities.DataAccess;
 import utilities.Database;
+import utilities.PendingActivities;
+import utilities.SentimentScore;
+import utilities.SentimentService;
 
 import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.geom.*;
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.sql.*;
 import java.sql.Date;
 import java.time.*;
@@ -50,34 +48,20 @@ public class Journal extends JFrame {
 
     private final String username;
     private JTextArea editorArea;
-    private JPanel entriesPanel;
+    private static final int HISTORY_PAGE_SIZE = 20;
+
+    private DefaultListModel<JournalEntry> entriesModel;
+    private JList<JournalEntry> entriesList;
+    private JScrollPane entriesScrollPane;
+    private JLabel noEntriesLabel;
+    // Keyset of the last loaded entry; the next page starts strictly after it
+    private Timestamp lastEntryDate;
+    private int lastEntryId;
+    private boolean hasMoreEntries;
+    private boolean loadingEntries;
+    private int historyGeneration;
     private JDialog historyDialog;
     private JDialog analysisDialog;
-    private static StanfordCoreNLP pipeline;
-
-    static {
-        try {
-            File ejml = new File("lib/ejml-0.23.jar");
-            if (!ejml.exists()) {
-                throw new FileNotFoundException("ejml-0.23.jar not found at: " + ejml.getAbsolutePath());
-            }
-
-            Properties props = new Properties();
-            props.setProperty("annotators", "tokenize, ssplit, pos, parse, sentiment");
-            props.setProperty("tokenize.language", "en");
-            System.setProperty("stanford.nlp.pipeline.model.path", new File("lib").getAbsolutePath());
-
-            pipeline = new StanfordCoreNLP(props);
-            System.out.println("SUCCESS! Pipeline initialized.");
-
-        } catch (Exception e) {
-            String errorMsg = "Initialization failed:\n" +
-                    "EJML exists: " + new File("lib/ejml-0.23.jar").exists() + "\n" +
-                    "Error: " + e;
-            JOptionPane.showMessageDialog(null, errorMsg, "Critical Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
-        }
-    }
 
     public Journal(String username) {
         this.username = username;
@@ -229,9 +213,9 @@ public class Journal extends JFrame {
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
                 if ("breakdown".equals(chartType)) {
-                    drawSentimentBreakdownChart(g, getWidth(), getHeight());
+                    drawSentimentBreakdownChart(g, getWidth(), getHeight(), this);
                 } else if ("weekly".equals(chartType)) {
-                    drawWeeklySentimentChart(g, getWidth(), getHeight());
+                    drawWeeklySentimentChart(g, getWidth(), getHeight(), this);
                 }
             }
         };
@@ -243,9 +227,13 @@ public class Journal extends JFrame {
 
         return card;
     }
-    private void drawWeeklySentimentChart(Graphics g, int width, int height) {
-        Map<String, Map<String, Double>> weeklyData = getWeeklySentimentAverages();
+    private void drawWeeklySentimentChart(Graphics g, int width, int height, Component target) {
+        Map<String, Map<String, Double>> weeklyData =
+                ChartCache.get(username, "journal.weekly", target, this::getWeeklySentimentAverages);
 
+        if (weeklyData == null) {
+            return;
+        }
         if (weeklyData.isEmpty()) {
             drawNoDataMessage(g, width, height);
             return;
@@ -373,10 +361,11 @@ public class Journal extends JFrame {
              PreparedStatement stmt = conn.prepareStatement(
                      "SELECT AVG(very_positive) as vp, AVG(positive) as p, " +
                              "AVG(neutral) as n, AVG(negative) as neg, AVG(very_negative) as vn " +
-                             "FROM journal_entries WHERE username = ? AND DATE(entry_date) = ?")) {
+                             "FROM journal_entries WHERE username = ? AND entry_date >= ? AND entry_date < ?")) {
 
             stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(today));
+            stmt.setTimestamp(2, Timestamp.valueOf(today.atStartOfDay()));
+            stmt.setTimestamp(3, Timestamp.valueOf(today.plusDays(1).atStartOfDay()));
 
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -390,12 +379,16 @@ public class Journal extends JFrame {
             e.printStackTrace();
         }
 
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
-    private void drawSentimentBreakdownChart(Graphics g, int width, int height) {
-        Map<String, Double> sentimentAverages = getDailySentimentAverages();
+    private void drawSentimentBreakdownChart(Graphics g, int width, int height, Component target) {
+        Map<String, Double> sentimentAverages =
+                ChartCache.get(username, "journal.daily", target, this::getDailySentimentAverages);
 
+        if (sentimentAverages == null) {
+            return;
+        }
         if (sentimentAverages.isEmpty()) {
             drawNoDataMessage(g, width, height);
             return;
@@ -494,7 +487,8 @@ public class Journal extends JFrame {
                 dayData.put("Negative", rs.getDouble("avg_negative"));
                 dayData.put("Very Negative", rs.getDouble("avg_very_negative"));
 
-                weeklyData.put(rs.getDate("date").toLocalDate().format(DateTimeFormatter.ofPattern("EEE")), dayData);
+                weeklyData.put(rs.getDate("date").toLocalDate().format(DateTimeFormatter.ofPattern("EEE")),
+                        Collections.unmodifiableMap(dayData));
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -510,11 +504,11 @@ public class Journal extends JFrame {
                 emptyDay.put("Neutral", 0.0);
                 emptyDay.put("Negative", 0.0);
                 emptyDay.put("Very Negative", 0.0);
-                weeklyData.put(dayName, emptyDay);
+                weeklyData.put(dayName, Collections.unmodifiableMap(emptyDay));
             }
         }
 
-        return weeklyData;
+        return Collections.unmodifiableMap(weeklyData);
     }
 
     private void refreshAnalysisCharts() {
@@ -580,7 +574,7 @@ public class Journal extends JFrame {
         buttonPanel.setBorder(new EmptyBorder(20, 0, 0, 0));
 
         JButton saveButton = createModernButton("Save Entry", PRIMARY_COLOR);
-        saveButton.addActionListener(e -> saveJournalEntry());
+        saveButton.addActionListener(e -> saveJournalEntry(saveButton));
 
         buttonPanel.add(saveButton);
 
@@ -627,7 +621,7 @@ public class Journal extends JFrame {
         return button;
     }
 
-    private void saveJournalEntry() {
+    private void saveJournalEntry(JButton saveButton) {
         String entry = editorArea.getText().trim();
         if (entry.isEmpty()) {
             JOptionPane.showMessageDialog(this, "Please write something before saving.",
@@ -635,14 +629,50 @@ public class Journal extends JFrame {
             return;
         }
 
-        SentimentResult sentiment = analyzeSentiment(entry);
-        LocalDate today = LocalDate.now();
+        // Analysis runs on the sentiment worker pool and the insert on DataAccess, so the editor stays usable
+        saveButton.setEnabled(false);
+        SentimentService.getInstance().analyze(entry, this::analyzeSentiment,
+                (stage, scored, total) -> saveButton.setText(getProgressText(stage, scored, total))
+        ).thenCompose(sentiment -> {
+            saveButton.setText("Saving...");
+            return DataAccess.supply(() -> {
+                storeJournalEntry(entry, sentiment);
+                return sentiment;
+            });
+        }).whenComplete((sentiment, failure) -> {
+            saveButton.setEnabled(true);
+            saveButton.setText("Save Entry");
+
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                showErrorDialog("Error saving journal entry: " + e.getMessage());
+                e.printStackTrace();
+                return;
+            }
+
+            ChartCache.invalidate(username);
+            PendingActivities.invalidate(username);
+            refreshAnalysisCharts();
+            showSaveSuccessDialog(sentiment);
+            if (editorArea.getText().trim().equals(entry)) {
+                editorArea.setText("");
+            }
+        });
+    }
 
-        Connection conn = null;
-        try {
-            conn = Database.getConnection();
-            conn.setAutoCommit(false);
+    private String getProgressText(SentimentService.Stage stage, int scored, int total) {
+        switch (stage) {
+            case QUEUED: return "Queued...";
+            case WAITING_FOR_MODELS: return "Preparing analysis...";
+            case ANALYZING: return total > 1 ? "Analyzing " + scored + "/" + total + "..." : "Analyzing...";
+            default: return "Saving...";
+        }
+    }
 
+    private void storeJournalEntry(String entry, SentimentResult sentiment) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+
+        Database.inTransaction(conn -> {
             try (PreparedStatement stmt = conn.prepareStatement(
                     "INSERT INTO journal_entries (username, entry, entry_date, sentiment_score, sentiment_type, " +
                             "very_positive, positive, neutral, negative, very_negative) " +
@@ -650,7 +680,7 @@ public class Journal extends JFrame {
 
                 stmt.setString(1, username);
                 stmt.setString(2, entry);
-                stmt.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                stmt.setTimestamp(3, Timestamp.valueOf(now));
                 stmt.setInt(4, sentiment.getSentimentScore());
                 stmt.setString(5, sentiment.getSentimentType());
                 stmt.setDouble(6, sentiment.getSentimentClass().getVeryPositive());
@@ -664,95 +694,13 @@ public class Journal extends JFrame {
                 }
             }
 
-            updateDailyAverages(conn, today, sentiment);
-
-            conn.commit();
-            showSaveSuccessDialog(sentiment);
-            editorArea.setText("");
-        } catch (Exception e) {
-            try {
-                if (conn != null) {
-                    conn.rollback();
-                }
-            } catch (SQLException ex) {
-                ex.printStackTrace();
+            double[] classes = new double[5];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = getSentimentValue(sentiment, i);
             }
-            showErrorDialog("Error saving journal entry: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            try {
-                if (conn != null) {
-                    conn.setAutoCommit(true);
-                    conn.close();
-                }
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }
-    }
-
-    private void updateDailyAverages(Connection conn, LocalDate date, SentimentResult newEntry) throws SQLException {
-
-        boolean exists = false;
-        int currentCount = 0;
-
-        try (PreparedStatement checkStmt = conn.prepareStatement(
-                "SELECT entry_count FROM user_daily_avg_journal_sentiment WHERE username = ? AND date = ?")) {
-            checkStmt.setString(1, username);
-            checkStmt.setDate(2, Date.valueOf(date));
-            try (ResultSet rs = checkStmt.executeQuery()) {
-                if (rs.next()) {
-                    exists = true;
-                    currentCount = rs.getInt("entry_count");
-                }
-            }
-        }
-
-        if (exists) {
-            // Calculate new averages
-            double newCount = currentCount + 1;
-            try (PreparedStatement stmt = conn.prepareStatement(
-                    "UPDATE user_daily_avg_journal_sentiment SET " +
-                            "entry_count = entry_count + 1, " +
-                            "avg_very_positive = ((avg_very_positive * ?) + ?) / ?, " +
-                            "avg_positive = ((avg_positive * ?) + ?) / ?, " +
-                            "avg_neutral = ((avg_neutral * ?) + ?) / ?, " +
-                            "avg_negative = ((avg_negative * ?) + ?) / ?, " +
-                            "avg_very_negative = ((avg_very_negative * ?) + ?) / ? " +
-                            "WHERE username = ? AND date = ?")) {
-
-                // Set parameters for each calculation
-                int paramIndex = 1;
-                for (int i = 0; i < 5; i++) { // For each of the 5 sentiment categories
-                    stmt.setDouble(paramIndex++, currentCount);
-                    stmt.setDouble(paramIndex++, getSentimentValue(newEntry, i));
-                    stmt.setDouble(paramIndex++, newCount);
-                }
-
-                // WHERE clause parameters
-                stmt.setString(paramIndex++, username);
-                stmt.setDate(paramIndex, Date.valueOf(date));
-
-                stmt.executeUpdate();
-            }
-        } else {
-            // Insert new daily average (for first entry of the day)
-            try (PreparedStatement stmt = conn.prepareStatement(
-                    "INSERT INTO user_daily_avg_journal_sentiment " +
-                            "(username, date, avg_very_positive, avg_positive, avg_neutral, " +
-                            "avg_negative, avg_very_negative, entry_count) VALUES (?, ?, ?, ?, ?, ?, ?, 1)")) {
-
-                stmt.setString(1, username);
-                stmt.setDate(2, Date.valueOf(date));
-                stmt.setDouble(3, newEntry.getSentimentClass().getVeryPositive());
-                stmt.setDouble(4, newEntry.getSentimentClass().getPositive());
-                stmt.setDouble(5, newEntry.getSentimentClass().getNeutral());
-                stmt.setDouble(6, newEntry.getSentimentClass().getNegative());
-                stmt.setDouble(7, newEntry.getSentimentClass().getVeryNegative());
-
-                stmt.executeUpdate();
-            }
-        }
+            DailyAggregates.recordJournalEntry(conn, username, now.toLocalDate(), classes);
+            return null;
+        });
     }
 
     // Helper method to get sentiment values by index
@@ -767,27 +715,23 @@ public class Journal extends JFrame {
         }
     }
 
-    private SentimentResult analyzeSentiment(String text) {
+    // Runs on a sentiment worker thread with the scores in sentence order
+    private SentimentResult analyzeSentiment(List<SentimentScore> sentenceScores) {
         SentimentResult result = new SentimentResult();
-        if (text == null || text.trim().isEmpty()) return result;
 
-        Annotation annotation = pipeline.process(text);
         List<Double> scores = new ArrayList<>();
         SentimentClassification sentimentClass = new SentimentClassification();
 
-        for (CoreMap sentence : annotation.get(CoreAnnotations.SentencesAnnotation.class)) {
-            Tree tree = sentence.get(SentimentCoreAnnotations.SentimentAnnotatedTree.class);
-            SimpleMatrix sm = RNNCoreAnnotations.getPredictions(tree);
-
+        for (SentimentScore score : sentenceScores) {
             // Aggregate scores
-            scores.add((double)RNNCoreAnnotations.getPredictedClass(tree));
+            scores.add((double)score.getPredictedClass());
 
             // Accumulate sentiment percentages
-            sentimentClass.setVeryPositive(sentimentClass.getVeryPositive() + (double)Math.round(sm.get(4) * 100d));
-            sentimentClass.setPositive(sentimentClass.getPositive() + (double)Math.round(sm.get(3) * 100d));
-            sentimentClass.setNeutral(sentimentClass.getNeutral() + (double)Math.round(sm.get(2) * 100d));
-            sentimentClass.setNegative(sentimentClass.getNegative() + (double)Math.round(sm.get(1) * 100d));
-            sentimentClass.setVeryNegative(sentimentClass.getVeryNegative() + (double)Math.round(sm.get(0) * 100d));
+            sentimentClass.setVeryPositive(sentimentClass.getVeryPositive() + (double)Math.round(score.getProbability(SentimentScore.VERY_POSITIVE) * 100d));
+            sentimentClass.setPositive(sentimentClass.getPositive() + (double)Math.round(score.getProbability(SentimentScore.POSITIVE) * 100d));
+            sentimentClass.setNeutral(sentimentClass.getNeutral() + (double)Math.round(score.getProbability(SentimentScore.NEUTRAL) * 100d));
+            sentimentClass.setNegative(sentimentClass.getNegative() + (double)Math.round(score.getProbability(SentimentScore.NEGATIVE) * 100d));
+            sentimentClass.setVeryNegative(sentimentClass.getVeryNegative() + (double)Math.round(score.getProbability(SentimentScore.VERY_NEGATIVE) * 100d));
         }
 
         // Calculate averages
@@ -872,14 +816,39 @@ public class Journal extends JFrame {
 
             headerPanel.add(titleLabel, BorderLayout.CENTER);
 
-            // Entries panel
-            entriesPanel = new JPanel();
-            entriesPanel.setLayout(new BoxLayout(entriesPanel, BoxLayout.Y_AXIS));
-            entriesPanel.setBackground(SECONDARY_COLOR);
+            // Entries list; only the visible cards are painted, by one shared renderer
+            entriesModel = new DefaultListModel<>();
+            entriesList = new JList<>(entriesModel);
+            entriesList.setCellRenderer(new EntryCardRenderer());
+            entriesList.setBackground(SECONDARY_COLOR);
+            entriesList.setSelectionModel(new DefaultListSelectionModel() {
+                @Override
+                public void setSelectionInterval(int index0, int index1) {
+                    // Entries are read-only cards
+                }
+            });
+            entriesList.addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(ComponentEvent e) {
+                    // Wrapped entry text changes height with the width, so cell sizes must be measured again
+                    entriesList.setFixedCellHeight(10);
+                    entriesList.setFixedCellHeight(-1);
+                }
+            });
+
+            noEntriesLabel = new JLabel("<html><div style='text-align:center;color:#666;font-size:14px;'>" +
+                    "No journal entries found.<br>Start writing your thoughts!</div></html>");
+            noEntriesLabel.setFont(SUBTITLE_FONT);
+            noEntriesLabel.setHorizontalAlignment(SwingConstants.CENTER);
+            noEntriesLabel.setVerticalAlignment(SwingConstants.TOP);
+            noEntriesLabel.setBorder(new EmptyBorder(50, 0, 50, 0));
 
-            JScrollPane scrollPane = new JScrollPane(entriesPanel);
+            JScrollPane scrollPane = new JScrollPane(entriesList);
             scrollPane.setBorder(null);
             scrollPane.getViewport().setBackground(SECONDARY_COLOR);
+            scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+            scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> loadMoreIfNearEnd());
+            entriesScrollPane = scrollPane;
 
             // Create close button panel for history dialog
             JPanel historyClosePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -901,187 +870,268 @@ public class Journal extends JFrame {
     }
 
     private void loadJournalEntries() {
-        entriesPanel.removeAll();
+        historyGeneration++;
+        entriesModel.clear();
+        entriesScrollPane.setViewportView(entriesList);
+        lastEntryDate = null;
+        lastEntryId = 0;
+        hasMoreEntries = true;
+        loadingEntries = false;
+        loadNextEntries();
+    }
 
-        try (Connection conn = Database.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(
-                     "SELECT entry_date, entry, sentiment_score, sentiment_type, " +
-                             "very_positive, positive, neutral, negative, very_negative " +
-                             "FROM journal_entries WHERE username = '" + username + "' ORDER BY entry_date DESC")) {
+    private void loadMoreIfNearEnd() {
+        JScrollBar scrollBar = entriesScrollPane.getVerticalScrollBar();
+        // Within a viewport's height of the bottom, or the loaded cards do not fill the viewport yet
+        if (scrollBar.getValue() + scrollBar.getVisibleAmount() * 2 >= scrollBar.getMaximum()) {
+            loadNextEntries();
+        }
+    }
 
-            List<JournalEntry> entries = new ArrayList<>();
-            while (rs.next()) {
-                entries.add(new JournalEntry(
-                        rs.getTimestamp("entry_date"),
-                        rs.getString("entry"),
-                        rs.getInt("sentiment_score"),
-                        rs.getString("sentiment_type"),
-                        rs.getDouble("very_positive"),
-                        rs.getDouble("positive"),
-                        rs.getDouble("neutral"),
-                        rs.getDouble("negative"),
-                        rs.getDouble("very_negative")
-                ));
-            }
+    private void loadNextEntries() {
+        if (loadingEntries || !hasMoreEntries) {
+            return;
+        }
+        loadingEntries = true;
 
-            if (entries.isEmpty()) {
-                JLabel noEntries = new JLabel("<html><div style='text-align:center;color:#666;font-size:14px;'>" +
-                        "No journal entries found.<br>Start writing your thoughts!</div></html>");
-                noEntries.setFont(SUBTITLE_FONT);
-                noEntries.setHorizontalAlignment(SwingConstants.CENTER);
-                noEntries.setBorder(new EmptyBorder(50, 0, 50, 0));
-                entriesPanel.add(noEntries);
-            } else {
-                // Add a glue component first to push content to top
-                entriesPanel.add(Box.createVerticalGlue());
-
-                for (JournalEntry entry : entries) {
-                    entriesPanel.add(createEntryCard(entry));
-                    entriesPanel.add(Box.createRigidArea(new Dimension(0, 20)));
-                }
+        int generation = historyGeneration;
+        Timestamp afterDate = lastEntryDate;
+        int afterId = lastEntryId;
+        boolean firstPage = afterDate == null;
 
-                // Add another glue at the end to maintain spacing
-                entriesPanel.add(Box.createVerticalGlue());
+        DataAccess.supply(() -> {
+            List<JournalEntry> entries = new ArrayList<>();
+            String sql = "SELECT id, entry_date, entry, sentiment_score, sentiment_type, " +
+                    "very_positive, positive, neutral, negative, very_negative " +
+                    "FROM journal_entries WHERE username = ? " +
+                    (firstPage ? "" : "AND (entry_date < ? OR (entry_date = ? AND id < ?)) ") +
+                    "ORDER BY entry_date DESC, id DESC LIMIT ?";
+            try (Connection conn = Database.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                int index = 1;
+                stmt.setString(index++, username);
+                if (!firstPage) {
+                    stmt.setTimestamp(index++, afterDate);
+                    stmt.setTimestamp(index++, afterDate);
+                    stmt.setInt(index++, afterId);
+                }
+                stmt.setInt(index, HISTORY_PAGE_SIZE);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        entries.add(new JournalEntry(
+                                rs.getInt("id"),
+                                rs.getTimestamp("entry_date"),
+                                rs.getString("entry"),
+                                rs.getInt("sentiment_score"),
+                                rs.getString("sentiment_type"),
+                                rs.getDouble("very_positive"),
+                                rs.getDouble("positive"),
+                                rs.getDouble("neutral"),
+                                rs.getDouble("negative"),
+                                rs.getDouble("very_negative")
+                        ));
+                    }
+                }
             }
-
-        } catch (Exception e) {
-            showErrorDialog("Error loading journal entries: " + e.getMessage());
-            e.printStackTrace();
-        }
-        SwingUtilities.invokeLater(() -> {
-            JViewport viewport = ((JScrollPane)entriesPanel.getParent().getParent()).getViewport();
-            viewport.setViewPosition(new Point(0, 0));
+            return entries;
+        }).whenComplete((entries, failure) -> {
+            if (generation != historyGeneration) {
+                // The history was reloaded while this page was loading
+                return;
+            }
+            loadingEntries = false;
+            if (failure != null) {
+                hasMoreEntries = false;
+                Throwable e = DataAccess.unwrap(failure);
+                showErrorDialog("Error loading journal entries: " + e.getMessage());
+                e.printStackTrace();
+                return;
+            }
+            showJournalEntries(entries, firstPage);
         });
-
-        entriesPanel.revalidate();
-        entriesPanel.repaint();
     }
 
-    private JPanel createEntryCard(JournalEntry entry) {
-        JPanel card = new JPanel(new BorderLayout());
-        card.setBackground(CARD_COLOR);
-        card.setBorder(BorderFactory.createCompoundBorder(
-                new RoundBorder(12, BORDER_COLOR),
-                new EmptyBorder(20, 20, 20, 20)
-        ));
-        card.setMaximumSize(new Dimension(900, Integer.MAX_VALUE));
+    private void showJournalEntries(List<JournalEntry> entries, boolean firstPage) {
+        if (firstPage && entries.isEmpty()) {
+            entriesScrollPane.setViewportView(noEntriesLabel);
+            hasMoreEntries = false;
+            return;
+        }
 
-        // Header with date and sentiment
-        JPanel headerPanel = new JPanel(new BorderLayout());
-        headerPanel.setOpaque(false);
-
-        // Formatted date
-        String formattedDate = entry.date.toLocalDateTime().format(
-                DateTimeFormatter.ofPattern("MMMM dd, yyyy - hh:mm a"));
-        JLabel dateLabel = new JLabel(formattedDate);
-        dateLabel.setFont(DATE_FONT);
-        dateLabel.setForeground(SUBTEXT_COLOR);
-
-        // Sentiment badge
-        JPanel sentimentBadge = createSentimentBadge(entry.score, entry.type);
-
-        headerPanel.add(dateLabel, BorderLayout.WEST);
-        headerPanel.add(sentimentBadge, BorderLayout.EAST);
-        card.add(headerPanel, BorderLayout.NORTH);
-
-        // Entry text
-        JTextArea entryText = new JTextArea(entry.text);
-        entryText.setFont(ENTRY_FONT);
-        entryText.setLineWrap(true);
-        entryText.setWrapStyleWord(true);
-        entryText.setEditable(false);
-        entryText.setOpaque(false);
-        entryText.setBorder(new EmptyBorder(15, 0, 15, 0));
-
-        // Sentiment details
-        JPanel sentimentPanel = new JPanel(new GridLayout(1, 5, 10, 0));
-        sentimentPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
-        sentimentPanel.setOpaque(false);
-
-        sentimentPanel.add(createSentimentBar("Very Positive", entry.veryPositive, VERY_POSITIVE));
-        sentimentPanel.add(createSentimentBar("Positive", entry.positive, POSITIVE));
-        sentimentPanel.add(createSentimentBar("Neutral", entry.neutral, NEUTRAL));
-        sentimentPanel.add(createSentimentBar("Negative", entry.negative, NEGATIVE));
-        sentimentPanel.add(createSentimentBar("Very Negative", entry.veryNegative, VERY_NEGATIVE));
-
-        JPanel contentPanel = new JPanel(new BorderLayout());
-        contentPanel.setOpaque(false);
-        contentPanel.add(entryText, BorderLayout.CENTER);
-        contentPanel.add(sentimentPanel, BorderLayout.SOUTH);
-
-        card.add(contentPanel, BorderLayout.CENTER);
+        for (JournalEntry entry : entries) {
+            entriesModel.addElement(entry);
+        }
+        if (!entries.isEmpty()) {
+            JournalEntry last = entries.get(entries.size() - 1);
+            lastEntryDate = last.date;
+            lastEntryId = last.id;
+        }
+        hasMoreEntries = entries.size() == HISTORY_PAGE_SIZE;
 
-        return card;
+        if (firstPage) {
+            entriesList.scrollRectToVisible(new Rectangle(0, 0, 1, 1));
+        }
+        // Keep loading until the viewport is filled or the history runs out
+        SwingUtilities.invokeLater(this::loadMoreIfNearEnd);
     }
 
-    private JPanel createSentimentBar(String label, double value, Color color) {
-        JPanel barPanel = new JPanel();
-        barPanel.setLayout(new BoxLayout(barPanel, BoxLayout.Y_AXIS));
-        barPanel.setOpaque(false);
-        barPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Value percentage label
-        JLabel valueLabel = new JLabel(String.format("%.0f%%", value), SwingConstants.CENTER);
-        valueLabel.setFont(SENTIMENT_FONT);
-        valueLabel.setForeground(TEXT_COLOR);
-        valueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Bar visualization
-        JPanel barContainer = new JPanel(new BorderLayout());
-        barContainer.setOpaque(false);
-        barContainer.setMaximumSize(new Dimension(70, 10));
-        barContainer.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        JPanel bar = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    /**
+     * Paints every history card with one set of components, so only the loaded entries are kept in
+     * memory and only the visible ones are drawn.
+     */
+    private class EntryCardRenderer extends JPanel implements ListCellRenderer<JournalEntry> {
+        private static final int MAX_CARD_WIDTH = 900;
+
+        private final JLabel dateLabel = new JLabel();
+        private final JLabel sentimentLabel = new JLabel();
+        private final JTextArea entryText = new JTextArea();
+        private final SentimentBar[] bars = {
+                new SentimentBar("Very Positive", VERY_POSITIVE),
+                new SentimentBar("Positive", POSITIVE),
+                new SentimentBar("Neutral", NEUTRAL),
+                new SentimentBar("Negative", NEGATIVE),
+                new SentimentBar("Very Negative", VERY_NEGATIVE)
+        };
+        private final JPanel card = new JPanel(new BorderLayout());
 
-                // Background
-                g2.setColor(BORDER_COLOR);
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+        private EntryCardRenderer() {
+            super(new BorderLayout());
+            setOpaque(false);
 
-                // Value
-                int width = (int) (getWidth() * (value / 100.0));
-                g2.setColor(color);
-                g2.fillRoundRect(0, 0, width, getHeight(), 5, 5);
+            card.setBackground(CARD_COLOR);
+            card.setBorder(BorderFactory.createCompoundBorder(
+                    new RoundBorder(12, BORDER_COLOR),
+                    new EmptyBorder(20, 20, 20, 20)
+            ));
 
-                g2.dispose();
+            // Header with date and sentiment
+            JPanel headerPanel = new JPanel(new BorderLayout());
+            headerPanel.setOpaque(false);
+            dateLabel.setFont(DATE_FONT);
+            dateLabel.setForeground(SUBTEXT_COLOR);
+            sentimentLabel.setFont(SENTIMENT_FONT);
+            headerPanel.add(dateLabel, BorderLayout.WEST);
+            headerPanel.add(sentimentLabel, BorderLayout.EAST);
+            card.add(headerPanel, BorderLayout.NORTH);
+
+            // Entry text
+            entryText.setFont(ENTRY_FONT);
+            entryText.setLineWrap(true);
+            entryText.setWrapStyleWord(true);
+            entryText.setEditable(false);
+            entryText.setOpaque(false);
+            entryText.setBorder(new EmptyBorder(15, 0, 15, 0));
+
+            // Sentiment details
+            JPanel sentimentPanel = new JPanel(new GridLayout(1, 5, 10, 0));
+            sentimentPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
+            sentimentPanel.setOpaque(false);
+            for (SentimentBar bar : bars) {
+                sentimentPanel.add(bar);
             }
-        };
-        bar.setPreferredSize(new Dimension(70, 8));
-        barContainer.add(bar, BorderLayout.CENTER);
-
-        // Sentiment type label
-        JLabel nameLabel = new JLabel(label, SwingConstants.CENTER);
-        nameLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
-        nameLabel.setForeground(SUBTEXT_COLOR);
-        nameLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Add components with proper spacing
-        barPanel.add(valueLabel);
-        barPanel.add(Box.createRigidArea(new Dimension(0, 5))); // Small vertical space
-        barPanel.add(barContainer);
-        barPanel.add(Box.createRigidArea(new Dimension(0, 5))); // Small vertical space
-        barPanel.add(nameLabel);
-
-        return barPanel;
+
+            JPanel contentPanel = new JPanel(new BorderLayout());
+            contentPanel.setOpaque(false);
+            contentPanel.add(entryText, BorderLayout.CENTER);
+            contentPanel.add(sentimentPanel, BorderLayout.SOUTH);
+            card.add(contentPanel, BorderLayout.CENTER);
+
+            add(card, BorderLayout.CENTER);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends JournalEntry> list, JournalEntry entry,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            dateLabel.setText(entry.date.toLocalDateTime().format(
+                    DateTimeFormatter.ofPattern("MMMM dd, yyyy - hh:mm a")));
+            sentimentLabel.setText("Type: " + entry.type + ", Total Score: " + entry.score + "/4");
+            sentimentLabel.setForeground(getSentimentColor(entry.score));
+            entryText.setText(entry.text);
+
+            bars[0].setValue(entry.veryPositive);
+            bars[1].setValue(entry.positive);
+            bars[2].setValue(entry.neutral);
+            bars[3].setValue(entry.negative);
+            bars[4].setValue(entry.veryNegative);
+
+            // Center the card at its maximum width and leave a gap below it
+            int listWidth = list.getWidth() > 0 ? list.getWidth() : MAX_CARD_WIDTH;
+            int side = Math.max(0, (listWidth - MAX_CARD_WIDTH) / 2);
+            setBorder(new EmptyBorder(0, side, 20, side));
+
+            // Wrapped text reports its height for the width it is given
+            Insets cardInsets = card.getInsets();
+            int textWidth = Math.max(1, listWidth - 2 * side - cardInsets.left - cardInsets.right);
+            entryText.setSize(textWidth, Short.MAX_VALUE);
+
+            return this;
+        }
     }
 
-    private JPanel createSentimentBadge(int score, String type) {
-        JPanel badge = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        badge.setOpaque(false);
+    private static class SentimentBar extends JPanel {
+        private final JLabel valueLabel = new JLabel("", SwingConstants.CENTER);
+        private final Color color;
+        private double value;
 
-        // Create the sentiment label with colored text
-        JLabel sentimentLabel = new JLabel("Type: "+type + ", Total Score: " + score + "/4");
-        sentimentLabel.setFont(SENTIMENT_FONT);
-        sentimentLabel.setForeground(getSentimentColor(score));
+        private SentimentBar(String label, Color color) {
+            this.color = color;
+            setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+            setOpaque(false);
+            setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            // Value percentage label
+            valueLabel.setFont(SENTIMENT_FONT);
+            valueLabel.setForeground(TEXT_COLOR);
+            valueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            // Bar visualization
+            JPanel barContainer = new JPanel(new BorderLayout());
+            barContainer.setOpaque(false);
+            barContainer.setMaximumSize(new Dimension(70, 10));
+            barContainer.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            JPanel bar = new JPanel() {
+                @Override
+                protected void paintComponent(Graphics g) {
+                    super.paintComponent(g);
+                    Graphics2D g2 = (Graphics2D) g.create();
+                    g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                    // Background
+                    g2.setColor(BORDER_COLOR);
+                    g2.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+
+                    // Value
+                    int width = (int) (getWidth() * (value / 100.0));
+                    g2.setColor(SentimentBar.this.color);
+                    g2.fillRoundRect(0, 0, width, getHeight(), 5, 5);
+
+                    g2.dispose();
+                }
+            };
+            bar.setPreferredSize(new Dimension(70, 8));
+            barContainer.add(bar, BorderLayout.CENTER);
+
+            // Sentiment type label
+            JLabel nameLabel = new JLabel(label, SwingConstants.CENTER);
+            nameLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
+            nameLabel.setForeground(SUBTEXT_COLOR);
+            nameLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            // Add components with proper spacing
+            add(valueLabel);
+            add(Box.createRigidArea(new Dimension(0, 5))); // Small vertical space
+            add(barContainer);
+            add(Box.createRigidArea(new Dimension(0, 5))); // Small vertical space
+            add(nameLabel);
+        }
 
-        badge.add(sentimentLabel);
-        return badge;
+        private void setValue(double value) {
+            this.value = value;
+            valueLabel.setText(String.format("%.0f%%", value));
+        }
     }
 
     private Color getSentimentColor(int score) {
@@ -1202,6 +1252,7 @@ public class Journal extends JFrame {
     }
 
     private static class JournalEntry {
+        int id;
         Timestamp date;
         String text;
         int score;
@@ -1212,9 +1263,10 @@ public class Journal extends JFrame {
         double negative;
         double veryNegative;
 
-        public JournalEntry(Timestamp date, String text, int score, String type,
+        public JournalEntry(int id, Timestamp date, String text, int score, String type,
                             double veryPositive, double positive, double neutral,
                             double negative, double veryNegative) {
+            this.id = id;
             this.date = date;
             this.text = text;
             this.score = score;
@@ -1,6 +1,10 @@
 package frames;
 
 import app.App;
+import utilities.ChartCache;
+import utilities.DailyAggregates;
+import utilities.DataAccess;
+import utilities.PendingActivities;
 import utilities.Database;
 
 import javax.swing.*;
@@ -363,103 +367,6 @@ public class Mood extends JFrame {
             }
         }
     }
-    //method to calculate and store daily summary
-    private void calculateAndStoreDailySummary() {
-        LocalDate today = LocalDate.now();
-
-        try (Connection conn = Database.getConnection()) {
-            // Calculate dominant mood and count for the day
-            Map<String, Object> moodStats = getDominantMoodAndCountForDay(conn, today);
-            String dominantMood = (String) moodStats.get("dominantMood");
-            int moodCount = (int) moodStats.get("moodCount");
-
-            // Calculate average stress for the day
-            double averageStress = getAverageStressForDay(conn, today);
-
-            String sql = "INSERT INTO user_daily_mood_stress (username, date, average_score, dominant_type, mood_cont) " +
-                    "VALUES (?, ?, ?, ?, ?) " +
-                    "ON DUPLICATE KEY UPDATE " +
-                    "average_score = VALUES(average_score), " +
-                    "dominant_type = VALUES(dominant_type), " +
-                    "mood_cont = VALUES(mood_cont)";
-
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, username);
-                stmt.setDate(2, Date.valueOf(today));
-                stmt.setDouble(3, averageStress);
-                stmt.setString(4, dominantMood);
-                stmt.setInt(5, moodCount);
-                stmt.executeUpdate();
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this, "Error calculating daily summary: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
-        }
-    }
-
-    private Map<String, Object> getDominantMoodAndCountForDay(Connection conn, LocalDate date) throws SQLException {
-        Map<String, Object> result = new HashMap<>();
-        result.put("dominantMood", "No Data");
-        result.put("moodCount", 0);
-
-        //mood counts for the day
-        Map<String, Integer> moodCounts = new HashMap<>();
-        String[] moods = {"Sad", "Happy", "Angry", "Excited", "Depressed", "Neutral"};
-
-        for (String mood : moods) {
-            moodCounts.put(mood, 0);
-        }
-
-        String sql = "SELECT mood, COUNT(*) as count FROM mood_logs " +
-                "WHERE username = ? AND DATE(log_time) = ? " +
-                "GROUP BY mood";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(date));
-
-            ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                moodCounts.put(rs.getString("mood"), rs.getInt("count"));
-            }
-        }
-
-        // Calculate total count and find dominant mood
-        int totalCount = moodCounts.values().stream().mapToInt(Integer::intValue).sum();
-        int maxCount = moodCounts.values().stream().max(Integer::compare).orElse(0);
-        List<String> dominantMoods = new ArrayList<>();
-
-        for (Map.Entry<String, Integer> entry : moodCounts.entrySet()) {
-            if (entry.getValue() == maxCount) {
-                dominantMoods.add(entry.getKey());
-            }
-        }
-
-        String dominantMood = dominantMoods.size() == 1 ? dominantMoods.get(0) : "Mixed Mood";
-
-        result.put("dominantMood", dominantMood);
-        result.put("moodCount", totalCount);
-        return result;
-    }
-
-    private double getAverageStressForDay(Connection conn, LocalDate date) throws SQLException {
-        String sql = "SELECT AVG(stress_level) as avg_stress FROM mood_logs " +
-                "WHERE username = ? AND DATE(log_time) = ?";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(date));
-
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return rs.getDouble("avg_stress");
-            }
-        }
-
-        return 0.0;
-    }
-
     private void saveMoodEntry() {
         if (selectedMood == null) {
             JOptionPane.showMessageDialog(this, "Please select a mood first!",
@@ -467,13 +374,40 @@ public class Mood extends JFrame {
             return;
         }
 
-        // Save the mood entry
-        logMoodAndStress(selectedMood, selectedStressLevel);
+        String mood = selectedMood;
+        int stressLevel = selectedStressLevel;
+
+        DataAccess.run(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            Database.inTransaction(conn -> {
+                // Save the mood entry
+                logMoodAndStress(conn, mood, stressLevel, now);
 
-        // Update daily summary
-        calculateAndStoreDailySummary();
+                // Update daily summary
+                DailyAggregates.recordMoodLog(conn, username, now.toLocalDate(), mood, stressLevel);
+                return null;
+            });
+        }).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                JOptionPane.showMessageDialog(this, "Error saving mood/stress: " + e.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                e.printStackTrace();
+                return;
+            }
 
-        refreshAllViews();
+            ChartCache.invalidate(username);
+            PendingActivities.invalidate(username);
+
+            JOptionPane.showMessageDialog(this,
+                    String.format("<html><div style='text-align: center;'><h3>Entry Saved!</h3>" +
+                                    "<p>Mood: <b>%s</b></p>" +
+                                    "<p>Stress Level: <b>%d</b></p></div></html>",
+                            mood, stressLevel),
+                    "Success", JOptionPane.INFORMATION_MESSAGE);
+
+            refreshAllViews();
+        });
     }
 
     private void refreshAllViews() {
@@ -618,30 +552,41 @@ public class Mood extends JFrame {
     }
 
     private void loadDailySummaries() {
-        dailySummaryModel.setRowCount(0);
-        try (Connection conn = Database.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT date, dominant_type, average_score, mood_cont " +
-                             "FROM user_daily_mood_stress " +
-                             "WHERE username = ? " +
-                             "ORDER BY date DESC")) {
+        DataAccess.supply(() -> {
+            List<Vector<Object>> rows = new ArrayList<>();
+            try (Connection conn = Database.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(
+                         "SELECT date, dominant_type, average_score, mood_cont " +
+                                 "FROM user_daily_mood_stress " +
+                                 "WHERE username = ? " +
+                                 "ORDER BY date DESC")) {
 
-            stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                Vector<Object> row = new Vector<>();
-                row.add(rs.getDate("date").toString());
-                row.add(rs.getString("dominant_type"));
-                row.add(String.format("%.1f", rs.getDouble("average_score")));
-                row.add(rs.getInt("mood_cont"));
+                stmt.setString(1, username);
+                ResultSet rs = stmt.executeQuery();
+
+                while (rs.next()) {
+                    Vector<Object> row = new Vector<>();
+                    row.add(rs.getDate("date").toString());
+                    row.add(rs.getString("dominant_type"));
+                    row.add(String.format("%.1f", rs.getDouble("average_score")));
+                    row.add(rs.getInt("mood_cont"));
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }).whenComplete((rows, failure) -> {
+            dailySummaryModel.setRowCount(0);
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                JOptionPane.showMessageDialog(this, "Error loading daily summaries: " + e.getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE);
+                e.printStackTrace();
+                return;
+            }
+            for (Vector<Object> row : rows) {
                 dailySummaryModel.addRow(row);
             }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error loading daily summaries: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
-        }
+        });
     }
 
     private void showAnalysisDialog() {
@@ -728,7 +673,7 @@ public class Mood extends JFrame {
                 g2.setColor(Color.WHITE);
                 g2.fillRect(margin, margin, chartWidth, chartHeight);
 
-                drawWeeklyTrendChart(g2, margin, chartWidth, chartHeight);
+                drawWeeklyTrendChart(g2, margin, chartWidth, chartHeight, this);
                 g2.dispose();
             }
         };
@@ -759,7 +704,7 @@ public class Mood extends JFrame {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                drawCombinedChart(g, getWidth(), getHeight());
+                drawCombinedChart(g, getWidth(), getHeight(), this);
             }
         };
         chartPanel.setBackground(Color.WHITE);
@@ -771,7 +716,7 @@ public class Mood extends JFrame {
         return card;
     }
 
-    private void drawCombinedChart(Graphics g, int width, int height) {
+    private void drawCombinedChart(Graphics g, int width, int height, Component target) {
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
@@ -787,15 +732,19 @@ public class Mood extends JFrame {
         g2.drawLine(margin, margin + chartHeight, margin + chartWidth, margin + chartHeight);
         g2.drawLine(margin, margin, margin, margin + chartHeight);
 
-        drawDailyCombinedChart(g2, margin, chartWidth, chartHeight);
+        drawDailyCombinedChart(g2, margin, chartWidth, chartHeight, target);
 
         g2.dispose();
     }
 
-    private void drawDailyCombinedChart(Graphics2D g2, int margin, int chartWidth, int chartHeight) {
-        Map<String, Integer> moodCounts = getDailyMoodCounts();
-        Map<String, Double> moodStressAverages = getDailyMoodStressAverages();
+    private void drawDailyCombinedChart(Graphics2D g2, int margin, int chartWidth, int chartHeight, Component target) {
+        Map<String, Integer> moodCounts = ChartCache.get(username, "mood.dailyCounts", target, this::getDailyMoodCounts);
+        Map<String, Double> moodStressAverages =
+                ChartCache.get(username, "mood.dailyStress", target, this::getDailyMoodStressAverages);
 
+        if (moodCounts == null || moodStressAverages == null) {
+            return;
+        }
         if (moodCounts.isEmpty() || moodStressAverages.isEmpty()) {
             drawNoDataMessage(g2, chartWidth + 2 * margin, chartHeight + 2 * margin);
             return;
@@ -918,7 +867,7 @@ public class Mood extends JFrame {
             result.putIfAbsent(date, 0.0);
         }
 
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
     private Map<LocalDate, String> getWeeklyDominantMoods() {
@@ -948,15 +897,20 @@ public class Mood extends JFrame {
             result.putIfAbsent(date, "No Data");
         }
 
-        return result;
+        return Collections.unmodifiableMap(result);
     }
-    private void drawWeeklyTrendChart(Graphics2D g2, int margin, int chartWidth, int chartHeight) {
+    private void drawWeeklyTrendChart(Graphics2D g2, int margin, int chartWidth, int chartHeight, Component target) {
         g2.setColor(Color.WHITE);
         g2.fillRect(margin, margin, chartWidth, chartHeight);
 
-        Map<LocalDate, Double> stressAverages = getWeeklyStressAverages();
-        Map<LocalDate, String> dominantMoods = getWeeklyDominantMoods();
+        Map<LocalDate, Double> stressAverages =
+                ChartCache.get(username, "mood.weeklyStress", target, this::getWeeklyStressAverages);
+        Map<LocalDate, String> dominantMoods =
+                ChartCache.get(username, "mood.weeklyMoods", target, this::getWeeklyDominantMoods);
 
+        if (stressAverages == null || dominantMoods == null) {
+            return;
+        }
         if (stressAverages.isEmpty() || dominantMoods.isEmpty()) {
             drawNoDataMessage(g2, chartWidth + 2 * margin, chartHeight + 2 * margin);
             return;
@@ -1072,11 +1026,12 @@ public class Mood extends JFrame {
         try (Connection conn = Database.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      "SELECT mood, COUNT(*) as mood_count " +
-                             "FROM mood_logs WHERE username = ? AND DATE(log_time) = ? " +
+                             "FROM mood_logs WHERE username = ? AND log_time >= ? AND log_time < ? " +
                              "GROUP BY mood")) {
 
             stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(today));
+            stmt.setTimestamp(2, Timestamp.valueOf(today.atStartOfDay()));
+            stmt.setTimestamp(3, Timestamp.valueOf(today.plusDays(1).atStartOfDay()));
 
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
@@ -1091,7 +1046,7 @@ public class Mood extends JFrame {
             result.putIfAbsent(mood, 0);
         }
 
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
     private Map<String, Double> getDailyMoodStressAverages() {
@@ -1101,11 +1056,12 @@ public class Mood extends JFrame {
         try (Connection conn = Database.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      "SELECT mood, AVG(stress_level) as avg_stress " +
-                             "FROM mood_logs WHERE username = ? AND DATE(log_time) = ? " +
+                             "FROM mood_logs WHERE username = ? AND log_time >= ? AND log_time < ? " +
                              "GROUP BY mood")) {
 
             stmt.setString(1, username);
-            stmt.setDate(2, Date.valueOf(today));
+            stmt.setTimestamp(2, Timestamp.valueOf(today.atStartOfDay()));
+            stmt.setTimestamp(3, Timestamp.valueOf(today.plusDays(1).atStartOfDay()));
 
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
@@ -1120,7 +1076,7 @@ public class Mood extends JFrame {
             result.putIfAbsent(mood, 0.0);
         }
 
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
     private void drawNoDataMessage(Graphics g, int width, int height) {
@@ -1163,44 +1119,49 @@ public class Mood extends JFrame {
     }
 
     private void loadMoodLogs() {
-        model.setRowCount(0);
-        try {
+        DataAccess.supply(() -> {
+            List<Vector<Object>> rows = new ArrayList<>();
+            LocalDate today = LocalDate.now();
+            int todayCount = 0;
             ResultSet rs = Database.executeQuery(
-                    "SELECT mood, stress_level, log_time FROM mood_logs WHERE username = '" + username + "' ORDER BY log_time DESC");
+                    "SELECT mood, stress_level, log_time FROM mood_logs WHERE username = ? ORDER BY log_time DESC", username);
             while (rs != null && rs.next()) {
+                if (rs.getTimestamp("log_time").toLocalDateTime().toLocalDate().equals(today)) {
+                    todayCount++;
+                }
                 Vector<Object> row = new Vector<>();
                 row.add(rs.getString("mood"));
                 row.add(rs.getInt("stress_level"));
                 row.add(rs.getTimestamp("log_time").toString());
+                rows.add(row);
+            }
+            // Every log is listed, so today's count doubles as a check of today's summary
+            DailyAggregates.checkMoodDay(username, today, todayCount);
+            return rows;
+        }).whenComplete((rows, failure) -> {
+            model.setRowCount(0);
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                JOptionPane.showMessageDialog(this, "Error loading mood/stress data: " + e.getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE);
+                e.printStackTrace();
+                return;
+            }
+            for (Vector<Object> row : rows) {
                 model.addRow(row);
             }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error loading mood/stress data: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
-        }
+        });
     }
 
-    private void logMoodAndStress(String mood, int stressLevel) {
-        try {
-            String sql = String.format(
-                    "INSERT INTO mood_logs (username, mood, stress_level, log_time) VALUES ('%s', '%s', %d, '%s')",
-                    username, mood, stressLevel, Timestamp.valueOf(LocalDateTime.now()).toString()
-            );
-            Database.executeUpdate(sql);
-
-            JOptionPane.showMessageDialog(this,
-                    String.format("<html><div style='text-align: center;'><h3>Entry Saved!</h3>" +
-                                    "<p>Mood: <b>%s</b></p>" +
-                                    "<p>Stress Level: <b>%d</b></p></div></html>",
-                            mood, stressLevel),
-                    "Success", JOptionPane.INFORMATION_MESSAGE);
-
-            loadMoodLogs();
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error saving mood/stress: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+    // Runs on a DataAccess thread; saveMoodEntry reports the outcome on the EDT
+    private void logMoodAndStress(Connection conn, String mood, int stressLevel, LocalDateTime time) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                     "INSERT INTO mood_logs (username, mood, stress_level, log_time) VALUES (?, ?, ?, ?)")) {
+            stmt.setString(1, username);
+            stmt.setString(2, mood);
+            stmt.setInt(3, stressLevel);
+            stmt.setTimestamp(4, Timestamp.valueOf(time));
+            stmt.executeUpdate();
         }
     }
 
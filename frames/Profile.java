@@ -1,5 +1,6 @@
 package frames;
 
+import utilities.DataAccess;
 import utilities.Database;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -32,12 +33,20 @@ public class Profile extends JFrame {
 
     public Profile(String username) {
         this.username = username;
-        loadUserData();
-        initializeUI();
-        setVisible(true);
+        // The window is built once the user's data has been read off the EDT
+        DataAccess.run(this::loadUserData).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                JOptionPane.showMessageDialog(this, "Error loading user data: " + e.getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE);
+                e.printStackTrace();
+            }
+            initializeUI();
+            setVisible(true);
+        });
     }
 
-    private void loadUserData() {
+    private void loadUserData() throws SQLException {
         try (Connection conn = Database.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      "SELECT height, weight, birthYear, gender FROM users WHERE username = ?")) {
@@ -51,10 +60,6 @@ public class Profile extends JFrame {
                 birthYear = rs.getInt("birthYear");
                 gender = rs.getString("gender");
             }
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(this, "Error loading user data: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
         }
     }
 
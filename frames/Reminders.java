@@ -1,13 +1,11 @@
 package frames;
 
-import utilities.Database;
+import utilities.DataAccess;
+import utilities.PendingActivities;
 import javax.swing.*;
 import java.awt.*;
-import java.sql.*;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 
 public class Reminders {
@@ -20,50 +18,18 @@ public class Reminders {
     }
 
     public void checkPendingActivities() {
-        List<String> pendingActivities = getPendingActivities();
-
-        if (pendingActivities.isEmpty()) {
-            showCompletionMessage();
-        } else {
-            showReminderDialog(pendingActivities);
-        }
-    }
-
-    private List<String> getPendingActivities() {
-        List<String> pending = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-
-        try (Connection conn = Database.getConnection()) {
-            // Check Daily Assessment
-            if (!hasActivityToday(conn, "user_assessment_responses", "response_time")) {
-                pending.add("Daily Assessment");
-            }
-
-            // Check Mood Log
-            if (!hasActivityToday(conn, "mood_logs", "log_time")) {
-                pending.add("Mood & Stress Check");
+        DataAccess.supply(() -> PendingActivities.get(username)).whenComplete((pendingActivities, failure) -> {
+            if (failure != null) {
+                showError("Error checking activities: " + DataAccess.unwrap(failure).getMessage());
+                return;
             }
 
-            // Check Journal Entry
-            if (!hasActivityToday(conn, "journal_entries", "entry_date")) {
-                pending.add("Daily Journal");
+            if (pendingActivities.isEmpty()) {
+                showCompletionMessage();
+            } else {
+                showReminderDialog(pendingActivities);
             }
-        } catch (SQLException e) {
-            showError("Error checking activities: " + e.getMessage());
-        }
-
-        return pending;
-    }
-
-    private boolean hasActivityToday(Connection conn, String tableName, String dateColumn) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM " + tableName +
-                " WHERE username = ? AND DATE(" + dateColumn + ") = CURRENT_DATE()";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            ResultSet rs = stmt.executeQuery();
-            return rs.next() && rs.getInt(1) > 0;
-        }
+        });
     }
 
     private void showReminderDialog(List<String> pendingActivities) {
@@ -1,14 +1,20 @@
 package frames;
 
-import utilities.Database;
+import utilities.DataAccess;
+import utilities.ResourceBodies;
+import utilities.ResourceIndex.Resource;
+import utilities.ResourceSearch;
 import javax.swing.*;
 import javax.swing.border.*;
 import javax.swing.event.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.sql.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.Timer;
 
 public class Resources extends JFrame {
     private final String username;
@@ -17,6 +23,20 @@ public class Resources extends JFrame {
     private JTextField searchField;
     private JTextArea detailsArea;
     private JProgressBar progressBar;
+    private ResourceSearch searchBackend;
+    private JButton showMoreButton;
+
+    // Ranked searches return the best hits a page at a time; "Show more" asks for the next page
+    private static final int RESULT_PAGE = 100;
+    private String resultQuery = "";
+    private int resultLimit = RESULT_PAGE;
+
+    // Typing restarts the timer, so a search only runs once the user pauses
+    private static final int SEARCH_DELAY_MILLIS = 250;
+    private final Timer searchTimer = new Timer(SEARCH_DELAY_MILLIS, e -> performSearch());
+    private final AtomicInteger searchSequence = new AtomicInteger();
+    private CompletableFuture<List<Resource>> pendingSearch;
+    private int detailsSequence;
 
     // Custom color scheme
     private final Color PRIMARY_COLOR = new Color(70, 130, 180);
@@ -30,7 +50,7 @@ public class Resources extends JFrame {
 
         setIconImage(app.App.getIcon());
         initializeUI();
-        loadResources("");
+        loadResources();
         setExtendedState(JFrame.MAXIMIZED_BOTH);
         setLocationRelativeTo(null);
         setVisible(true);
@@ -148,11 +168,14 @@ public class Resources extends JFrame {
         searchButton.setFocusPainted(false);
         searchButton.addActionListener(e -> performSearch());
 
+        searchField.addActionListener(e -> performSearch());
+
         // Search as you type
+        searchTimer.setRepeats(false);
         searchField.getDocument().addDocumentListener(new DocumentListener() {
-            public void changedUpdate(DocumentEvent e) { performSearch(); }
-            public void insertUpdate(DocumentEvent e) { performSearch(); }
-            public void removeUpdate(DocumentEvent e) { performSearch(); }
+            public void changedUpdate(DocumentEvent e) { searchTimer.restart(); }
+            public void insertUpdate(DocumentEvent e) { searchTimer.restart(); }
+            public void removeUpdate(DocumentEvent e) { searchTimer.restart(); }
         });
 
         searchPanel.add(searchField, BorderLayout.CENTER);
@@ -180,6 +203,19 @@ public class Resources extends JFrame {
         JScrollPane scrollPane = new JScrollPane(resourceList);
         scrollPane.setBorder(null);
         listPanel.add(scrollPane, BorderLayout.CENTER);
+
+        showMoreButton = new JButton("Show more results");
+        showMoreButton.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        showMoreButton.setBackground(PRIMARY_COLOR);
+        showMoreButton.setForeground(Color.WHITE);
+        showMoreButton.setFocusPainted(false);
+        showMoreButton.setBorder(BorderFactory.createEmptyBorder(8, 20, 8, 20));
+        showMoreButton.setVisible(false);
+        showMoreButton.addActionListener(e -> {
+            resultLimit += RESULT_PAGE;
+            performSearch();
+        });
+        listPanel.add(showMoreButton, BorderLayout.SOUTH);
         return listPanel;
     }
 
@@ -209,66 +245,77 @@ public class Resources extends JFrame {
 
 
     private void performSearch() {
-        String query = searchField.getText().trim();
-        loadResources(query);
-    }
+        searchTimer.stop();
+        if (searchBackend == null) {
+            // The results are shown once the search backend is ready
+            return;
+        }
 
-    private void loadResources(String query) {
-        SwingWorker<Void, Void> worker = new SwingWorker<>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                SwingUtilities.invokeLater(() -> {
-                    progressBar.setIndeterminate(true);
-                    progressBar.setVisible(true);
-                });
-
-                try {
-                    String sql = "SELECT id, title, keywords, content FROM resources WHERE " +
-                            "LOWER(title) LIKE ? OR LOWER(keywords) LIKE ? OR LOWER(content) LIKE ? " +
-                            "ORDER BY title";
-
-                    String searchPattern = "%" + query.toLowerCase() + "%";
-                    ResultSet rs = Database.executeQuery(sql, searchPattern, searchPattern, searchPattern);
-
-                    final List<Resource> resources = new ArrayList<>();
-                    while (rs != null && rs.next()) {
-                        resources.add(new Resource(
-                                rs.getInt("id"),
-                                rs.getString("title"),
-                                rs.getString("keywords"),
-                                rs.getString("content")
-                        ));
-                    }
-
-                    SwingUtilities.invokeLater(() -> {
-                        resourceListModel.clear();
-                        for (Resource res : resources) {
-                            resourceListModel.addElement(res.getTitle());
-                        }
-                        resourceList.putClientProperty("resources", resources);
-                    });
-
-                    if (rs != null) {
-                        Statement stmt = rs.getStatement();
-                        Database.closeResources(rs, stmt);
-                    }
-                } catch (Exception e) {
-                    SwingUtilities.invokeLater(() -> {
-                        showError("Error loading resources: " + e.getMessage());
-                        e.printStackTrace();
-                    });
-                }
-                return null;
+        // Every search supersedes the ones before it; their results are dropped by sequence number
+        int sequence = searchSequence.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+
+        String query = searchField.getText().trim();
+        if (!query.equals(resultQuery)) {
+            resultQuery = query;
+            resultLimit = RESULT_PAGE;
+        }
+        // One extra hit tells whether there is another page
+        int limit = resultLimit;
+        ResourceSearch searched = searchBackend;
+        pendingSearch = DataAccess.supply(() -> {
+            if (searchSequence.get() != sequence) {
+                throw new CancellationException();
+            }
+            return searched.search(query, limit + 1);
+        });
+        pendingSearch.whenComplete((resources, failure) -> {
+            if (searchSequence.get() != sequence || failure instanceof CancellationException) {
+                return;
             }
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                showError("Error searching resources: " + e.getMessage());
+                e.printStackTrace();
+                return;
+            }
+
+            boolean more = resources.size() > limit;
+            List<Resource> shown = more ? resources.subList(0, limit) : resources;
+            int previousSize = resourceListModel.size();
+            boolean nextPage = limit > RESULT_PAGE && previousSize < shown.size();
 
-            @Override
-            protected void done() {
-                progressBar.setIndeterminate(false);
-                progressBar.setVisible(false);
+            resourceListModel.clear();
+            for (Resource res : shown) {
+                resourceListModel.addElement(res.getTitle());
             }
-        };
+            resourceList.putClientProperty("resources", shown);
+            showMoreButton.setVisible(more);
+            if (nextPage) {
+                resourceList.ensureIndexIsVisible(previousSize);
+            }
+        });
+    }
+
+    private void loadResources() {
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(true);
+
+        ResourceSearch.open().whenComplete((loaded, failure) -> {
+            progressBar.setIndeterminate(false);
+            progressBar.setVisible(false);
 
-        worker.execute();
+            if (failure != null) {
+                Throwable e = DataAccess.unwrap(failure);
+                showError("Error loading resources: " + e.getMessage());
+                e.printStackTrace();
+                return;
+            }
+            searchBackend = loaded;
+            performSearch();
+        });
     }
 
     private void showResourceDetails() {
@@ -278,15 +325,45 @@ public class Resources extends JFrame {
 
         if (selectedIndex >= 0 && resources != null && selectedIndex < resources.size()) {
             Resource selected = resources.get(selectedIndex);
-            detailsArea.setText(String.format(
-                    "Title: %s\n\nKeywords: %s\n\n%s",
-                    selected.getTitle(),
-                    selected.getKeywords(),
-                    selected.getContent()
-            ));
+            int sequence = ++detailsSequence;
+
+            ResourceBodies.Body cached = ResourceBodies.getCached(selected.getId());
+            if (cached != null) {
+                showResourceDetails(selected, cached);
+                return;
+            }
+
+            detailsArea.setText(String.format("Title: %s\n\nLoading...", selected.getTitle()));
+            DataAccess.supply(() -> ResourceBodies.load(selected.getId())).whenComplete((body, failure) -> {
+                // The selection has moved on; the newer request fills the details
+                if (sequence != detailsSequence) {
+                    return;
+                }
+                if (failure != null) {
+                    Throwable e = DataAccess.unwrap(failure);
+                    showError("Error loading resource: " + e.getMessage());
+                    e.printStackTrace();
+                    return;
+                }
+                showResourceDetails(selected, body);
+            });
         }
     }
 
+    private void showResourceDetails(Resource selected, ResourceBodies.Body body) {
+        if (body == null) {
+            detailsArea.setText(String.format("Title: %s\n\nThis resource is no longer available.", selected.getTitle()));
+            return;
+        }
+        detailsArea.setText(String.format(
+                "Title: %s\n\nKeywords: %s\n\n%s",
+                selected.getTitle(),
+                body.getKeywords(),
+                body.getContent()
+        ));
+        detailsArea.setCaretPosition(0);
+    }
+
     private void showError(String message) {
         JOptionPane.showMessageDialog(this,
                 message,
@@ -294,24 +371,6 @@ public class Resources extends JFrame {
                 JOptionPane.ERROR_MESSAGE);
     }
 
-    private static class Resource {
-        private final int id;
-        private final String title;
-        private final String keywords;
-        private final String content;
-
-        public Resource(int id, String title, String keywords, String content) {
-            this.id = id;
-            this.title = title;
-            this.keywords = keywords;
-            this.content = content;
-        }
-
-        public String getTitle() { return title; }
-        public String getKeywords() { return keywords; }
-        public String getContent() { return content; }
-    }
-
     private class ResourceListCellRenderer extends DefaultListCellRenderer {
         @Override
         public Component getListCellRendererComponent(JList<?> list, Object value, int index,
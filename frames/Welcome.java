@@ -5,6 +5,7 @@ import material.MatButton;
 import material.MatComboBox;
 import material.MatPasswordField;
 import material.MatTextField;
+import utilities.DataAccess;
 import utilities.Database;
 import utilities.Theme;
 import utilities.EmailSender;
@@ -15,6 +16,7 @@ import java.sql.ResultSet;
 import java.util.Calendar;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 import java.util.prefs.Preferences;
 
@@ -99,10 +101,14 @@ public class Welcome extends JFrame {
         btnSignIn.addActionListener(e -> {
             String usernameOrEmail = txtUsername.getText();
             String password = String.valueOf(txtPassword.getPassword());
-            if (validateSignIn(usernameOrEmail, password, lblError)) {
-                new Dashboard(currentUsername);
-                dispose();
-            }
+            btnSignIn.setEnabled(false);
+            validateSignIn(usernameOrEmail, password, lblError).whenComplete((signedIn, failure) -> {
+                btnSignIn.setEnabled(true);
+                if (failure == null && signedIn) {
+                    new Dashboard(currentUsername);
+                    dispose();
+                }
+            });
         });
 
         addLabel(panel, gbc, 0, 20, "Don't have an account?", 20f, Theme.DARK_BLUE.color);
@@ -228,93 +234,99 @@ public class Welcome extends JFrame {
         return panel;
     }
 
-    private boolean validateSignIn(String usernameOrEmail, String password, JLabel error) {
-        try {
-            String storedToken = getStoredDeviceToken();
-            if (storedToken != null) {
-                ResultSet tokenMatch = Database.executeQuery(
-                        "SELECT username FROM users WHERE username = BINARY '" + usernameOrEmail +
-                                "' AND device_token = '" + storedToken + "'");
-
-                if (tokenMatch != null && tokenMatch.next()) {
-                    currentUsername = usernameOrEmail;
-                    new Dashboard(currentUsername);
-                    dispose();
-                    return true;
-                }
-            }
+    // Lookups run off the EDT; the future completes on the EDT with true once the user is signed in
+    private CompletableFuture<Boolean> validateSignIn(String usernameOrEmail, String password, JLabel error) {
+        String storedToken = getStoredDeviceToken();
+        return DataAccess.supply(() -> checkSignIn(usernameOrEmail, password, storedToken))
+                .handle((outcome, failure) -> {
+                    if (failure != null) {
+                        Database.showError("Database error: " + DataAccess.unwrap(failure).getMessage());
+                        return false;
+                    }
+                    switch (outcome.status) {
+                        case SIGNED_IN:
+                            currentUsername = outcome.username;
+                            return true;
+                        case VERIFY:
+                            currentUsername = outcome.username;
+                            currentEmail = outcome.email;
+                            showCard("verify");
+                            return false;
+                        default:
+                            error.setText(outcome.error);
+                            return false;
+                    }
+                });
+    }
 
-            if (Objects.equals(usernameOrEmail, "")) {
-                error.setText("Username or email required");
-                return false;
-            } else if (Objects.equals(password, "")) {
-                error.setText("Password required");
-                return false;
+    // Runs off the EDT, so it only reports the account it matched; the caller stores it on the EDT
+    private SignInOutcome checkSignIn(String usernameOrEmail, String password, String storedToken) throws Exception {
+        if (storedToken != null) {
+            ResultSet tokenMatch = Database.executeQuery(
+                    "SELECT username FROM users WHERE username = BINARY ? AND device_token = ?",
+                    usernameOrEmail, storedToken);
+
+            if (tokenMatch != null && tokenMatch.next()) {
+                return SignInOutcome.signedIn(usernameOrEmail);
             }
+        }
 
-            boolean isEmail = usernameOrEmail.contains("@");
-            String query;
+        if (Objects.equals(usernameOrEmail, "")) {
+            return SignInOutcome.error("Username or email required");
+        } else if (Objects.equals(password, "")) {
+            return SignInOutcome.error("Password required");
+        }
 
-            if (isEmail) {
-                if (!Pattern.matches("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$", usernameOrEmail)) {
-                    error.setText("Invalid email format");
-                    return false;
-                }
-                query = "SELECT username FROM users WHERE email = BINARY '" + usernameOrEmail + "'";
-            } else {
-                if ((usernameOrEmail.length() < 5) || (usernameOrEmail.length() > 15)) {
-                    error.setText("Username must be between 5 and 15 characters");
-                    return false;
-                } else if (!Pattern.matches("^[A-Za-z0-9]{5,15}$", usernameOrEmail)) {
-                    error.setText("Username must be alphanumeric");
-                    return false;
-                }
-                query = "SELECT username FROM users WHERE username = BINARY '" + usernameOrEmail + "'";
+        boolean isEmail = usernameOrEmail.contains("@");
+        String query;
+
+        if (isEmail) {
+            if (!Pattern.matches("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$", usernameOrEmail)) {
+                return SignInOutcome.error("Invalid email format");
+            }
+            query = "SELECT username FROM users WHERE email = BINARY ?";
+        } else {
+            if ((usernameOrEmail.length() < 5) || (usernameOrEmail.length() > 15)) {
+                return SignInOutcome.error("Username must be between 5 and 15 characters");
+            } else if (!Pattern.matches("^[A-Za-z0-9]{5,15}$", usernameOrEmail)) {
+                return SignInOutcome.error("Username must be alphanumeric");
             }
+            query = "SELECT username FROM users WHERE username = BINARY ?";
+        }
 
-            ResultSet matchedUser = Database.executeQuery(query);
-            assert matchedUser != null;
-            if (matchedUser.next()) {
-                currentUsername = matchedUser.getString("username");
-
-                ResultSet matchedPassword = Database.executeQuery(
-                        "SELECT username FROM users WHERE username = BINARY '" + currentUsername +
-                                "' AND password = '" + password + "'");
-
-                assert matchedPassword != null;
-                if (matchedPassword.next()) {
-                    // Generate and send new verification code each login
-                    String code = generateVerificationCode();
-                    try {
-                        Database.executeUpdate("UPDATE users SET verification_code = '" + code +
-                                "' WHERE username = '" + currentUsername + "'");
-
-                        // Get user's email to send the code
-                        ResultSet emailRS = Database.executeQuery(
-                                "SELECT email FROM users WHERE username = '" + currentUsername + "'");
-                        if (emailRS.next()) {
-                            currentEmail = emailRS.getString("email");
-                            EmailSender.sendVerificationEmail(currentEmail, code);
-                            showCard("verify");
-                            return false;
-                        }
-                    } catch (Exception ex) {
-                        error.setText("Failed to send verification code");
-                        return false;
-                    }
-                } else {
-                    error.setText("Invalid password");
-                    return false;
-                }
-            } else {
-                error.setText(isEmail ? "Email doesn't exist" : "Username doesn't exist");
-                return false;
+        ResultSet matchedUser = Database.executeQuery(query, usernameOrEmail);
+        assert matchedUser != null;
+        if (!matchedUser.next()) {
+            return SignInOutcome.error(isEmail ? "Email doesn't exist" : "Username doesn't exist");
+        }
+        String username = matchedUser.getString("username");
+
+        ResultSet matchedPassword = Database.executeQuery(
+                "SELECT username FROM users WHERE username = BINARY ? AND password = ?",
+                username, password);
+
+        assert matchedPassword != null;
+        if (!matchedPassword.next()) {
+            return SignInOutcome.error("Invalid password");
+        }
+
+        // Generate and send new verification code each login
+        String code = generateVerificationCode();
+        try {
+            Database.executeUpdate("UPDATE users SET verification_code = ? WHERE username = ?", code, username);
+
+            // Get user's email to send the code
+            ResultSet emailRS = Database.executeQuery(
+                    "SELECT email FROM users WHERE username = ?", username);
+            if (emailRS.next()) {
+                String email = emailRS.getString("email");
+                EmailSender.sendVerificationEmail(email, code);
+                return SignInOutcome.verify(username, email);
             }
-        } catch (Exception exception) {
-            Database.showError("Database error: " + exception.getMessage());
-            return false;
+        } catch (Exception ex) {
+            return SignInOutcome.error("Failed to send verification code");
         }
-        return false;
+        return SignInOutcome.error("Could not find the account's email");
     }
 
     private boolean validateSignUp(String username, String email, String password, String height,
@@ -554,4 +566,35 @@ public class Welcome extends JFrame {
     public static void main(String[] args) {
         new Welcome();
     }
+
+    private enum SignInStatus {
+        SIGNED_IN, VERIFY, ERROR
+    }
+
+    private static class SignInOutcome {
+        final SignInStatus status;
+        final String username;
+        final String email;
+        final String error;
+
+        private SignInOutcome(SignInStatus status, String username, String email, String error) {
+            this.status = status;
+            this.username = username;
+            this.email = email;
+            this.error = error;
+        }
+
+        static SignInOutcome signedIn(String username) {
+            return new SignInOutcome(SignInStatus.SIGNED_IN, username, null, null);
+        }
+
+        // A verification code has been sent to email
+        static SignInOutcome verify(String username, String email) {
+            return new SignInOutcome(SignInStatus.VERIFY, username, email, null);
+        }
+
+        static SignInOutcome error(String message) {
+            return new SignInOutcome(SignInStatus.ERROR, null, null, message);
+        }
+    }
 }
\ No newline at end of file
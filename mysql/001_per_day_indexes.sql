@@ -0,0 +1,15 @@
+-- Composite (username, timestamp) indexes for the per-day lookups.
+-- Queries filter with half-open ranges such as
+--   log_time >= '2025-07-10 00:00:00' AND log_time < '2025-07-11 00:00:00'
+-- so both columns of the index are used instead of scanning every row of the user.
+-- tracker.sql already contains these keys; run this on databases created before them.
+
+USE `tracker`;
+
+ALTER TABLE `journal_entries` ADD KEY `username_entry_date_idx` (`username`,`entry_date`);
+ALTER TABLE `journal_entries` DROP KEY `username_idx`;
+
+ALTER TABLE `mood_logs` ADD KEY `username_log_time_idx` (`username`,`log_time`);
+ALTER TABLE `mood_logs` DROP KEY `username_idx`;
+
+-- user_assessment_responses already has KEY `username` (`username`,`response_time`)
@@ -0,0 +1,7 @@
+-- FULLTEXT index for the MATCH ... AGAINST resource search backend,
+-- used when the application runs with -Dresources.search=fulltext.
+-- tracker.sql already contains this key; run this on databases created before it.
+
+USE `tracker`;
+
+ALTER TABLE `resources` ADD FULLTEXT KEY `ft_resources` (`title`,`keywords`,`content`);
@@ -0,0 +1,9 @@
+-- Change stamp for the resource search index, which compares MAX(updated_at)
+-- with the value it was built from to notice edits to existing rows.
+-- tracker.sql already contains this column; run this on databases created before it.
+
+USE `tracker`;
+
+ALTER TABLE `resources`
+  ADD COLUMN `updated_at` timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+  ADD KEY `updated_at_idx` (`updated_at`);
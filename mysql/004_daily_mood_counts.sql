@@ -0,0 +1,22 @@
+-- Per-mood log counts and stress sums for each user and day. Saving a mood log
+-- bumps one row here, and the user_daily_mood_stress summary is derived from
+-- these few rows instead of rescanning mood_logs.
+-- tracker.sql already contains this table; run this on databases created before it.
+
+USE `tracker`;
+
+CREATE TABLE `user_daily_mood_counts` (
+  `id` int NOT NULL AUTO_INCREMENT,
+  `username` varchar(50) NOT NULL,
+  `date` date NOT NULL,
+  `mood` varchar(45) NOT NULL,
+  `logs` int NOT NULL,
+  `stress_sum` int NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `username_date_mood` (`username`,`date`,`mood`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `user_daily_mood_counts` (`username`,`date`,`mood`,`logs`,`stress_sum`)
+SELECT `username`, DATE(`log_time`), `mood`, COUNT(*), SUM(`stress_level`)
+FROM `mood_logs`
+GROUP BY `username`, DATE(`log_time`), `mood`;
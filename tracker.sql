@@ -61,7 +61,7 @@ CREATE TABLE `journal_entries` (
   `negative` double NOT NULL,
   `very_negative` double NOT NULL,
   PRIMARY KEY (`id`),
-  KEY `username_idx` (`username`),
+  KEY `username_entry_date_idx` (`username`,`entry_date`),
   CONSTRAINT `fk_journal_users` FOREIGN KEY (`username`) REFERENCES `users` (`username`)
 ) ENGINE=InnoDB AUTO_INCREMENT=65 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -90,7 +90,7 @@ CREATE TABLE `mood_logs` (
   `stress_level` int NOT NULL,
   `log_time` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
-  KEY `username_idx` (`username`),
+  KEY `username_log_time_idx` (`username`,`log_time`),
   CONSTRAINT `fk_moodlogs_users` FOREIGN KEY (`username`) REFERENCES `users` (`username`)
 ) ENGINE=InnoDB AUTO_INCREMENT=79 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -117,7 +117,10 @@ CREATE TABLE `resources` (
   `title` varchar(300) NOT NULL,
   `keywords` varchar(300) NOT NULL,
   `content` longtext NOT NULL,
-  PRIMARY KEY (`id`)
+  `updated_at` timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (`id`),
+  KEY `updated_at_idx` (`updated_at`),
+  FULLTEXT KEY `ft_resources` (`title`,`keywords`,`content`)
 ) ENGINE=InnoDB AUTO_INCREMENT=27 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -127,7 +130,7 @@ CREATE TABLE `resources` (
 
 LOCK TABLES `resources` WRITE;
 /*!40000 ALTER TABLE `resources` DISABLE KEYS */;
-INSERT INTO `resources` VALUES (1,'Managing Anxiety','anxiety, stress, coping, panic, worry','Understanding Anxiety:\nAnxiety is your body\'s natural response to stress. While occasional anxiety is normal, chronic anxiety can interfere with daily life.\n\nEvidence-Based Techniques:\n1. 4-7-8 Breathing: Inhale deeply for 4 seconds, hold for 7 seconds, exhale slowly for 8 seconds. Repeat 5 times.\n2. Caffeine Management: Limit to 200mg/day (about 2 cups coffee). Avoid after 2pm.\n3. Grounding Technique (5-4-3-2-1 Method):\n   - 5 things you can see\n   - 4 things you can touch\n   - 3 things you can hear\n   - 2 things you can smell\n   - 1 thing you can taste\n4. Cognitive Restructuring: Challenge negative thoughts by asking:\n   - Is this thought realistic?\n   - What\'s the evidence for/against it?\n   - What would I tell a friend with this thought?\n5. Sleep Hygiene:\n   - Consistent sleep schedule (±30min)\n   - Cool, dark bedroom (18-22°C)\n   - No screens 1 hour before bed\n\nProfessional Help:\nConsider therapy if:\n- Anxiety persists >6 months\n- Causes significant distress\n- Interferes with work/relationships\nTreatment options include CBT, medication, or combination.'),(2,'Depression Management','depression, mood, sadness, treatment, therapy','Understanding Depression:\nClinical depression is more than feeling sad - it\'s a persistent condition affecting thoughts, feelings and physical health.\n\nSelf-Help Strategies:\n1. Behavioral Activation:\n   - Create daily schedule with achievable goals\n   - Include pleasant activities (even if you don\'t feel like it)\n2. Physical Activity:\n   - 30 minutes moderate exercise 5x/week\n   - Walking, yoga, swimming all effective\n3. Cognitive Techniques:\n   - Gratitude journal (3 things daily)\n   - Challenge all-or-nothing thinking\n4. Social Connection:\n   - Schedule regular contact with supportive people\n   - Consider support groups\n5. Professional Options:\n   - CBT (Cognitive Behavioral Therapy)\n   - Interpersonal Therapy\n   - Antidepressants (SSRIs/SNRIs)\n\nWarning Signs:\nSeek immediate help for:\n- Suicidal thoughts\n- Inability to care for basic needs\n- Psychotic symptoms'),(3,'Meditation Guide','meditation, mindfulness, relaxation, stress relief, focus','Complete Mindfulness Practice:\n\nPreparation:\n1. Choose quiet, comfortable space\n2. Set timer (start with 5-10 minutes)\n3. Sit upright but relaxed (chair/cushion)\n\nPractice Steps:\n1. Body Awareness:\n   - Notice points of contact with seat/floor\n   - Scan body for tension (release shoulders/jaw)\n2. Breath Focus:\n   - Natural breathing rhythm\n   - Notice sensations at nostrils/abdomen\n3. Managing Distractions:\n   - When mind wanders, note \"thinking\"\n   - Gently return to breath\n   - This is the practice - not failure\n\nDeepening Practice:\n- Body scan meditation\n- Loving-kindness meditation\n- Walking meditation\n\nBenefits:\n- Reduces stress hormones\n- Improves emotional regulation\n- Enhances focus/concentration\n- May reduce chronic pain'),(4,'Mental Health Crisis Resources','emergency, hotline, suicide, crisis, help','24/7 Crisis Support:\n\nImmediate Help:\n1. National Suicide Prevention Lifeline: 988\n   - Free, confidential\n   - Available in Spanish and for deaf/hard of hearing\n2. Crisis Text Line: Text HOME to 741741\n   - Free 24/7 text support\n   - Specialized services for:\n     - Teens\n     - LGBTQ+\n     - Veterans\n3. Veterans Crisis Line: 988 then press 1\n   - Specialized veteran support\n   - Connects to local VA services\n\nAdditional Resources:\n- Disaster Distress Helpline: 1-800-985-5990\n  - Natural disasters\n  - Mass violence\n- SAMHSA Treatment Referral: 1-800-662-HELP (4357)\n  - Substance abuse treatment\n  - Mental health services\n\nInternational:\n- International Association for Suicide Prevention:\n  https://www.iasp.info/resources/Crisis_Centres/'),(5,'Psychological Resilience','resilience, coping, strength, adversity, growth','Developing Resilience:\n\nCore Components:\n1. Emotional Regulation:\n   - Name and accept emotions\n   - Healthy expression (journaling, art)\n   - Calming techniques (breathing, mindfulness)\n\n2. Cognitive Flexibility:\n   - Reframe challenges as opportunities\n   - Recognize what you can/cannot control\n   - Develop balanced thinking\n\n3. Strong Relationships:\n   - Nurture supportive connections\n   - Set healthy boundaries\n   - Ask for help when needed\n\n4. Meaning & Purpose:\n   - Clarify personal values\n   - Set meaningful goals\n   - Find purpose in difficulties\n\n5. Self-Care Foundation:\n   - Regular sleep (7-9 hours)\n   - Balanced nutrition\n   - Physical movement\n   - Stress management\n\nResilience Builders:\n- Practice gratitude\n- Develop problem-solving skills\n- Learn from past challenges\n- Maintain hopeful outlook\n\nProfessional Support:\nConsider therapy to:\n- Process trauma\n- Develop coping skills\n- Strengthen resilience'),(6,'track','track','1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion'),(7,'Managing Anxiety: A Step-by-Step Guide','anxiety, self-help, breathing techniques, stress relief, emotional regulation, mental wellness','Anxiety is a natural reaction to stress, but when it becomes overwhelming, it can interfere with daily life. This comprehensive guide is designed to help individuals understand the nature of anxiety, recognize their triggers, and implement effective coping mechanisms. The guide begins by explaining the physiological and psychological components of anxiety, including how the body’s “fight or flight” response works. Step-by-step instructions are provided for grounding exercises, mindful breathing, and progressive muscle relaxation. Cognitive restructuring tools are introduced to help individuals challenge anxious thoughts with logic and compassion. Daily habits such as limiting caffeine, creating a consistent sleep routine, and setting manageable goals are emphasized. This guide includes downloadable worksheets, an anxiety tracking log, and links to additional resources for those seeking therapy or support groups. Designed for both self-help and clinical use, this resource empowers users to take control of their anxiety through evidence-based strategies.'),(8,'Emergency Mental Health Hotline Numbers','emergency, hotline, crisis, suicide prevention, help, urgent support, 24/7 contact','In a mental health emergency, immediate help can be the difference between life and death. This vital resource lists emergency hotline numbers and services available both locally and internationally. For individuals in Bangladesh, the National Mental Health Helpline (16263) offers confidential support. Globally, the Suicide Prevention Lifeline in the U.S. (988), Samaritans in the UK (116 123), and Befrienders International are available 24/7. The document explains how to use these services effectively, what to expect during the call, and how to stay calm when helping someone in crisis. Also included are emergency chat and SMS services for those unable to speak on the phone. Recognizing the stigma and hesitation around seeking help, this guide reassures users that reaching out is a sign of strength. Printable wallet cards and shareable posters are available as downloads. This resource should be prominently displayed on all mental health platforms as a first line of defense for urgent needs.'),(9,'Guided Meditation for Beginners','meditation, mindfulness, relaxation, emotional control, breathing, stress management','Meditation is a scientifically supported practice that enhances emotional regulation, lowers stress hormones, and improves mental clarity. This beginner-friendly guide provides a step-by-step journey into mindfulness meditation, starting with understanding how meditation affects the brain. Users are introduced to breath awareness, body scanning, and present-moment focus. Each section is accompanied by a 10-minute guided meditation audio file, along with tips on posture, creating a quiet environment, and building a regular practice. Additional sections explore how to deal with distractions, use affirmations, and cultivate self-compassion through loving-kindness meditation. The guide also includes journal prompts to reflect on each session and track emotional changes. Ideal for users new to meditation or those struggling with focus, this resource promotes long-term mental clarity, emotional resilience, and inner peace. Bonus content includes links to curated playlists, mobile apps, and meditation groups for ongoing support.'),(10,'Understanding Depression: Signs and Support','depression, mood disorder, symptoms, therapy, mental health, support systems','Depression is more than just sadness—it is a complex mood disorder that affects thoughts, behavior, and physical health. This in-depth resource explains the symptoms of depression including persistent low mood, fatigue, feelings of hopelessness, irritability, changes in appetite, and sleep disturbances. Readers will learn how depression differs from temporary emotional slumps and what biological, environmental, and social factors contribute to its onset. The guide emphasizes early detection and outlines various treatment paths, including cognitive behavioral therapy (CBT), interpersonal therapy (IPT), and antidepressant medications. Also included is a section on stigma, where users are encouraged to seek help without shame or guilt. Real-life stories and quotes from individuals who have managed depression provide hope and encouragement. A self-assessment tool helps readers determine if they should speak to a mental health professional. This resource aims to educate, validate experiences, and guide individuals and families toward recovery and support.'),(11,'Cognitive Behavioral Therapy (CBT) Techniques','CBT, mental health, negative thinking, therapy tools, behavior change, psychological resilience','Cognitive Behavioral Therapy (CBT) is a structured, goal-oriented therapy that helps individuals identify and change unhelpful patterns in thinking and behavior. This resource is a practical introduction to CBT, explaining the core principle: our thoughts, emotions, and behaviors are interconnected. The guide walks users through common CBT exercises such as thought records, behavioral experiments, and graded exposure. Each technique includes sample scenarios and blank templates that can be used at home. Users are encouraged to identify cognitive distortions—like catastrophizing, mind reading, or black-and-white thinking—and apply strategies to reframe them into balanced thoughts. The guide also addresses avoidance behavior and teaches skills to break the cycle of anxiety or depression. Written for self-help users, therapy clients, and peer support workers, this resource includes printable worksheets and links to CBT workbooks, mobile apps, and evidence-based video series. Whether used alone or as a supplement to professional therapy, CBT empowers users to regain control of their mental health.'),(12,'Daily Mental Health Journal Template','journaling, self-reflection, mood tracking, emotions, personal growth, daily log','Journaling is a proven tool for improving mental health by increasing self-awareness, reducing rumination, and promoting emotional regulation. This resource provides a customizable daily mental health journal template with multiple sections to explore and reflect. Users can rate their mood on a 1–10 scale, record triggers, describe significant thoughts or events, and log sleep quality, hydration, and activity levels. Dedicated spaces are provided for gratitude lists, positive affirmations, and reflections on coping strategies used during the day. There is also a section titled “What I Did Well Today” to encourage self-recognition. Each journal page ends with a question to promote insight, such as “What did I learn about myself today?” or “How did I respond to stress today?” The template is available in printable PDF and interactive app format. Long-term journaling helps users identify emotional patterns, prepare for therapy sessions, and set realistic mental wellness goals.'),(13,'Self-Care Checklist for Mental Wellness','self-care, wellness routine, mental health habits, personal development, daily balance','Consistent self-care is essential to maintaining emotional balance and mental resilience. This resource offers a detailed daily, weekly, and monthly self-care checklist tailored to support mental wellness. Activities are divided into categories: Physical (e.g., drink 8 glasses of water, take a 15-minute walk), Emotional (e.g., express feelings, journal your thoughts), Social (e.g., connect with a friend), Intellectual (e.g., read for 20 minutes), and Spiritual (e.g., pray, meditate, or reflect). For each activity, tips are provided on how to build it into your routine sustainably. The checklist is not meant to pressure users into perfection, but to gently guide them toward consistent self-nurturing. Also included is a self-care evaluation quiz to help individuals assess which areas of their life need more attention. With printable PDFs and app-based tracking options, this tool supports both short-term relief and long-term wellbeing.'),(14,'Apps for Mental Health Support','digital therapy, self-help apps, mindfulness tools, CBT, emotional support, guided practices','Mobile apps can make mental health support more accessible and convenient, especially for those hesitant or unable to access traditional therapy. This resource reviews several trusted apps across different categories. “Calm” and “Headspace” offer guided meditations, breathing tools, and sleep stories. “BetterHelp” connects users to licensed therapists for text, video, or phone sessions. “Woebot” is an AI-powered chatbot based on CBT that interacts conversationally to help users track their thoughts and reframe them. “Moodpath” allows users to record daily mood and symptom information, which can be shared with a therapist. Each app review includes features, cost, platform compatibility, and user privacy info. The resource also discusses how to evaluate an app’s credibility, focusing on scientific backing, user reviews, and data protection. Finally, suggestions are provided on how to integrate app use into a broader mental wellness plan that includes offline activities, real human support, and lifestyle habits.'),(15,'How to Help a Friend in Distress','supporting others, mental health crisis, peer help, communication, emotional aid','Supporting a friend experiencing emotional distress can be overwhelming, especially if you feel unsure of what to say or do. This resource provides a clear, compassionate guide to helping someone through a mental health struggle. It covers how to recognize signs of distress, including withdrawal, sudden changes in behavior, expressions of hopelessness, or increased substance use. A step-by-step communication guide helps readers approach conversations gently, listen actively without trying to fix the problem, and express care without judgment. Example dialogue, crisis do’s and don’ts, and boundaries for the helper are provided. It also discusses how to encourage professional help and includes contact info for helplines and therapists. The final section is for the helper—offering tips to manage emotional fatigue, avoid burnout, and understand your role as a supporter. This guide helps build a culture of empathy, trust, and mutual care within families, schools, and communities.'),(16,'Mental Health and Nutrition','food, brain health, mood, depression, nutrition therapy, healthy eating','Emerging research shows that nutrition plays a critical role in mental health. This resource explores the science behind how certain nutrients influence brain chemistry and emotional regulation. It explains the importance of omega-3 fatty acids, B vitamins, magnesium, and probiotics in reducing symptoms of depression and anxiety. The gut-brain axis is introduced, explaining how gut bacteria impact neurotransmitter production like serotonin and dopamine. Readers will learn how high-sugar, high-fat diets may worsen mood disorders, and how to gradually shift toward a nutrient-rich eating plan. Sample meal plans and shopping lists are included for various dietary preferences (vegetarian, budget-conscious, gluten-free). The resource also offers practical tips for meal prepping, managing emotional eating, and eating mindfully. This holistic guide empowers individuals to support their mental wellness through the food choices they make every day, forming an essential part of an overall mental health strategy.'),(17,'Coping with Grief and Loss','grief, bereavement, loss, emotional pain, healing, mental health support','Grief is a deeply personal and often overwhelming experience that follows the loss of a loved one. This resource offers compassionate guidance through the grieving process, helping users understand that there is no “right” way to grieve. It outlines the five commonly referenced stages of grief—denial, anger, bargaining, depression, and acceptance—while emphasizing that not everyone experiences these stages linearly. The guide explores physical, emotional, and cognitive symptoms of grief and provides healthy coping mechanisms such as talking to a therapist, joining support groups, engaging in creative expression, and setting small goals each day. Special attention is given to disenfranchised grief (e.g., miscarriage, pet loss) and how to support others through mourning. Printable worksheets, journaling prompts, and memorial ritual ideas are included to help users process loss in meaningful ways and rebuild emotional stability over time.'),(18,'Healing from Trauma and PTSD','trauma, PTSD, flashbacks, recovery, emotional healing, safety, resilience','Post-Traumatic Stress Disorder (PTSD) and trauma-related stress responses can develop after experiencing or witnessing deeply distressing events. This resource offers a gentle introduction to trauma healing, starting with the neuroscience of trauma: how the brain’s amygdala, hippocampus, and prefrontal cortex respond under prolonged stress. It discusses common symptoms such as hypervigilance, nightmares, emotional numbness, and avoidance. The guide emphasizes the importance of safety and stabilization before engaging in trauma processing work. Therapeutic approaches covered include Eye Movement Desensitization and Reprocessing (EMDR), Somatic Experiencing, and Trauma-Focused CBT. The resource also includes self-care tools such as grounding exercises, trauma-informed yoga, and creating a safety plan. A section on survivor stories provides hope, while downloadable checklists and therapy readiness assessments guide users toward healing at their own pace.'),(19,'Understanding and Managing Burnout','burnout, stress, exhaustion, mental fatigue, work-life balance, recovery','Burnout is a state of emotional, physical, and mental exhaustion caused by prolonged stress—commonly found in students, caregivers, and professionals. This resource explores the three dimensions of burnout: emotional exhaustion, depersonalization, and reduced personal accomplishment. It helps users distinguish burnout from general stress or depression and identifies contributing factors such as overwork, lack of boundaries, and role ambiguity. Readers will learn how to assess their current stress levels using burnout inventories and how to implement recovery strategies like time-off planning, workload redistribution, digital detoxing, and prioritizing restorative sleep. Organizational solutions are discussed for managers or leaders, including flexible scheduling, mental health days, and supportive workplace culture. This guide supports both individuals and institutions in preventing and recovering from burnout holistically.'),(20,'Sleep and Mental Health: Restoring Your Mind and Body','sleep hygiene, insomnia, rest, brain health, sleep cycle, mental clarity','Sleep is foundational to emotional regulation, memory consolidation, and overall mental health. This comprehensive guide explains the connection between sleep and mood, highlighting how chronic sleep deprivation can contribute to depression, anxiety, and cognitive decline. It covers how sleep works—including REM and non-REM stages—and offers practical steps for building a healthy sleep routine. Users will find checklists to assess their sleep hygiene, instructions for creating an ideal sleep environment (light, temperature, noise), and behavioral techniques such as stimulus control, wind-down rituals, and cognitive defusion for racing thoughts. Special tips are included for students, shift workers, and those with chronic insomnia. The resource also explains when to seek medical evaluation for sleep disorders such as sleep apnea or restless leg syndrome. Integrating good sleep habits can significantly improve emotional resilience and daytime focus.'),(21,'Building Emotional Intelligence','emotional intelligence, self-awareness, empathy, regulation, relationships, social skills','Emotional intelligence (EI) refers to the ability to recognize, understand, and manage one’s own emotions and those of others. This resource breaks down the five key components of EI—self-awareness, self-regulation, motivation, empathy, and social skills—and shows how improving each area can lead to stronger relationships, better decision-making, and enhanced mental wellness. Readers will be guided through reflective exercises to identify their emotional triggers, journaling activities to increase awareness, and active listening practices to strengthen empathy. Scenarios are provided to illustrate EI in action—e.g., managing conflict at work, supporting a friend in distress, or staying calm under pressure. Tips for building a daily EI routine, book recommendations, and an EQ self-assessment quiz are included to help users continue their development.'),(22,'Mindfulness for Students and Youth','youth, mindfulness, focus, self-esteem, anxiety reduction, emotional control','Students today face unique challenges—academic pressure, social media influence, identity exploration, and emotional volatility. Mindfulness can be a valuable tool for improving focus, reducing anxiety, and building resilience. This resource introduces the core principles of mindfulness—present-moment awareness, non-judgment, and compassion—and provides student-friendly exercises such as breathing with colors, mindful walking between classes, and body scan relaxation before exams. Special attention is given to building mindful study habits, managing school-related anxiety, and using mindfulness apps tailored for youth (like Smiling Mind or Mindful Powers). The resource also includes a guide for parents and educators on how to introduce mindfulness in classrooms or at home. Worksheets, meditation scripts, and group activity ideas are included.'),(23,'The Role of Art in Mental Healing','art therapy, expression, creativity, emotional release, healing through art','Creative expression is a powerful way to explore emotions, release tension, and process trauma without relying solely on verbal communication. This resource explores the therapeutic benefits of art and how individuals can use drawing, painting, music, dance, or writing to support mental healing. It explains how art bypasses the logical part of the brain and taps into subconscious processing. Techniques like visual journaling, emotion-based painting, collage creation, and guided mandala drawing are introduced with examples and prompts. Case studies demonstrate how art has helped people express grief, cope with trauma, or reduce anxiety. This guide includes safety considerations for triggering content and ways to integrate art into therapy sessions or daily routines—even for those with no prior artistic experience.'),(24,'Navigating Social Anxiety','social anxiety, fear of judgment, shyness, confidence building, social skills','Social anxiety is characterized by intense fear or discomfort in social settings due to concerns about being judged, embarrassed, or rejected. This resource explains the symptoms, causes, and impact of social anxiety, and offers a roadmap for overcoming it gradually and compassionately. Techniques such as graded exposure, thought reframing, and social skills training are covered, along with real-life scripts for handling conversations, attending events, or speaking in class. The guide also emphasizes building self-esteem and developing realistic expectations of social interactions. CBT-based worksheets, confidence-boosting exercises, and virtual role-playing tools are included. For those seeking peer support, a list of online forums and local social anxiety meetups is provided.'),(25,'Emotional First Aid: How to Handle Emotional Injuries','emotional wounds, self-worth, rejection, failure, self-compassion, mental health crisis','Just like physical injuries require first aid, emotional wounds—such as rejection, guilt, failure, and loneliness—need attention to prevent long-term damage. This guide introduces the concept of Emotional First Aid, developed by psychologist Guy Winch. It teaches readers how to recognize emotional pain early, stop negative self-talk, repair self-esteem, and rebuild hope after emotional setbacks. Strategies include practicing self-kindness, seeking healthy distractions, journaling, connecting with others, and challenging distorted beliefs. The resource includes self-assessment tools, daily affirmations, and checklists for when emotional wounds resurface. By responding to emotional pain with care instead of avoidance, individuals can build long-term resilience and better manage life’s ups and downs.'),(26,'Gratitude and Positive Psychology Practices','gratitude, happiness, positive psychology, optimism, strengths, wellbeing','Positive psychology focuses on building what makes life worth living—not just treating illness. This resource explores the role of gratitude in enhancing emotional wellbeing. Readers will learn about the science behind gratitude’s effects on the brain, mood, and relationships. Guided practices include keeping a gratitude journal, writing a gratitude letter, and practicing “three good things” daily. The guide explains how gratitude can shift attention from scarcity to abundance and increase overall life satisfaction. It also introduces other positive psychology interventions like identifying personal strengths, savoring positive moments, and setting goals aligned with intrinsic values. A weekly gratitude planner, printable reflection sheets, and prompts for group discussions are included. Whether used individually or in schools and therapy settings, this resource offers actionable tools to cultivate a more joyful, resilient mindset.');
+INSERT INTO `resources` (`id`,`title`,`keywords`,`content`) VALUES (1,'Managing Anxiety','anxiety, stress, coping, panic, worry','Understanding Anxiety:\nAnxiety is your body\'s natural response to stress. While occasional anxiety is normal, chronic anxiety can interfere with daily life.\n\nEvidence-Based Techniques:\n1. 4-7-8 Breathing: Inhale deeply for 4 seconds, hold for 7 seconds, exhale slowly for 8 seconds. Repeat 5 times.\n2. Caffeine Management: Limit to 200mg/day (about 2 cups coffee). Avoid after 2pm.\n3. Grounding Technique (5-4-3-2-1 Method):\n   - 5 things you can see\n   - 4 things you can touch\n   - 3 things you can hear\n   - 2 things you can smell\n   - 1 thing you can taste\n4. Cognitive Restructuring: Challenge negative thoughts by asking:\n   - Is this thought realistic?\n   - What\'s the evidence for/against it?\n   - What would I tell a friend with this thought?\n5. Sleep Hygiene:\n   - Consistent sleep schedule (±30min)\n   - Cool, dark bedroom (18-22°C)\n   - No screens 1 hour before bed\n\nProfessional Help:\nConsider therapy if:\n- Anxiety persists >6 months\n- Causes significant distress\n- Interferes with work/relationships\nTreatment options include CBT, medication, or combination.'),(2,'Depression Management','depression, mood, sadness, treatment, therapy','Understanding Depression:\nClinical depression is more than feeling sad - it\'s a persistent condition affecting thoughts, feelings and physical health.\n\nSelf-Help Strategies:\n1. Behavioral Activation:\n   - Create daily schedule with achievable goals\n   - Include pleasant activities (even if you don\'t feel like it)\n2. Physical Activity:\n   - 30 minutes moderate exercise 5x/week\n   - Walking, yoga, swimming all effective\n3. Cognitive Techniques:\n   - Gratitude journal (3 things daily)\n   - Challenge all-or-nothing thinking\n4. Social Connection:\n   - Schedule regular contact with supportive people\n   - Consider support groups\n5. Professional Options:\n   - CBT (Cognitive Behavioral Therapy)\n   - Interpersonal Therapy\n   - Antidepressants (SSRIs/SNRIs)\n\nWarning Signs:\nSeek immediate help for:\n- Suicidal thoughts\n- Inability to care for basic needs\n- Psychotic symptoms'),(3,'Meditation Guide','meditation, mindfulness, relaxation, stress relief, focus','Complete Mindfulness Practice:\n\nPreparation:\n1. Choose quiet, comfortable space\n2. Set timer (start with 5-10 minutes)\n3. Sit upright but relaxed (chair/cushion)\n\nPractice Steps:\n1. Body Awareness:\n   - Notice points of contact with seat/floor\n   - Scan body for tension (release shoulders/jaw)\n2. Breath Focus:\n   - Natural breathing rhythm\n   - Notice sensations at nostrils/abdomen\n3. Managing Distractions:\n   - When mind wanders, note \"thinking\"\n   - Gently return to breath\n   - This is the practice - not failure\n\nDeepening Practice:\n- Body scan meditation\n- Loving-kindness meditation\n- Walking meditation\n\nBenefits:\n- Reduces stress hormones\n- Improves emotional regulation\n- Enhances focus/concentration\n- May reduce chronic pain'),(4,'Mental Health Crisis Resources','emergency, hotline, suicide, crisis, help','24/7 Crisis Support:\n\nImmediate Help:\n1. National Suicide Prevention Lifeline: 988\n   - Free, confidential\n   - Available in Spanish and for deaf/hard of hearing\n2. Crisis Text Line: Text HOME to 741741\n   - Free 24/7 text support\n   - Specialized services for:\n     - Teens\n     - LGBTQ+\n     - Veterans\n3. Veterans Crisis Line: 988 then press 1\n   - Specialized veteran support\n   - Connects to local VA services\n\nAdditional Resources:\n- Disaster Distress Helpline: 1-800-985-5990\n  - Natural disasters\n  - Mass violence\n- SAMHSA Treatment Referral: 1-800-662-HELP (4357)\n  - Substance abuse treatment\n  - Mental health services\n\nInternational:\n- International Association for Suicide Prevention:\n  https://www.iasp.info/resources/Crisis_Centres/'),(5,'Psychological Resilience','resilience, coping, strength, adversity, growth','Developing Resilience:\n\nCore Components:\n1. Emotional Regulation:\n   - Name and accept emotions\n   - Healthy expression (journaling, art)\n   - Calming techniques (breathing, mindfulness)\n\n2. Cognitive Flexibility:\n   - Reframe challenges as opportunities\n   - Recognize what you can/cannot control\n   - Develop balanced thinking\n\n3. Strong Relationships:\n   - Nurture supportive connections\n   - Set healthy boundaries\n   - Ask for help when needed\n\n4. Meaning & Purpose:\n   - Clarify personal values\n   - Set meaningful goals\n   - Find purpose in difficulties\n\n5. Self-Care Foundation:\n   - Regular sleep (7-9 hours)\n   - Balanced nutrition\n   - Physical movement\n   - Stress management\n\nResilience Builders:\n- Practice gratitude\n- Develop problem-solving skills\n- Learn from past challenges\n- Maintain hopeful outlook\n\nProfessional Support:\nConsider therapy to:\n- Process trauma\n- Develop coping skills\n- Strengthen resilience'),(6,'track','track','1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion1. Maintain supportive relationships\\n2. Accept change as part of life\\n3. Set realistic goals\\n4. Take decisive actions\\n5. Practice self-compassion'),(7,'Managing Anxiety: A Step-by-Step Guide','anxiety, self-help, breathing techniques, stress relief, emotional regulation, mental wellness','Anxiety is a natural reaction to stress, but when it becomes overwhelming, it can interfere with daily life. This comprehensive guide is designed to help individuals understand the nature of anxiety, recognize their triggers, and implement effective coping mechanisms. The guide begins by explaining the physiological and psychological components of anxiety, including how the body’s “fight or flight” response works. Step-by-step instructions are provided for grounding exercises, mindful breathing, and progressive muscle relaxation. Cognitive restructuring tools are introduced to help individuals challenge anxious thoughts with logic and compassion. Daily habits such as limiting caffeine, creating a consistent sleep routine, and setting manageable goals are emphasized. This guide includes downloadable worksheets, an anxiety tracking log, and links to additional resources for those seeking therapy or support groups. Designed for both self-help and clinical use, this resource empowers users to take control of their anxiety through evidence-based strategies.'),(8,'Emergency Mental Health Hotline Numbers','emergency, hotline, crisis, suicide prevention, help, urgent support, 24/7 contact','In a mental health emergency, immediate help can be the difference between life and death. This vital resource lists emergency hotline numbers and services available both locally and internationally. For individuals in Bangladesh, the National Mental Health Helpline (16263) offers confidential support. Globally, the Suicide Prevention Lifeline in the U.S. (988), Samaritans in the UK (116 123), and Befrienders International are available 24/7. The document explains how to use these services effectively, what to expect during the call, and how to stay calm when helping someone in crisis. Also included are emergency chat and SMS services for those unable to speak on the phone. Recognizing the stigma and hesitation around seeking help, this guide reassures users that reaching out is a sign of strength. Printable wallet cards and shareable posters are available as downloads. This resource should be prominently displayed on all mental health platforms as a first line of defense for urgent needs.'),(9,'Guided Meditation for Beginners','meditation, mindfulness, relaxation, emotional control, breathing, stress management','Meditation is a scientifically supported practice that enhances emotional regulation, lowers stress hormones, and improves mental clarity. This beginner-friendly guide provides a step-by-step journey into mindfulness meditation, starting with understanding how meditation affects the brain. Users are introduced to breath awareness, body scanning, and present-moment focus. Each section is accompanied by a 10-minute guided meditation audio file, along with tips on posture, creating a quiet environment, and building a regular practice. Additional sections explore how to deal with distractions, use affirmations, and cultivate self-compassion through loving-kindness meditation. The guide also includes journal prompts to reflect on each session and track emotional changes. Ideal for users new to meditation or those struggling with focus, this resource promotes long-term mental clarity, emotional resilience, and inner peace. Bonus content includes links to curated playlists, mobile apps, and meditation groups for ongoing support.'),(10,'Understanding Depression: Signs and Support','depression, mood disorder, symptoms, therapy, mental health, support systems','Depression is more than just sadness—it is a complex mood disorder that affects thoughts, behavior, and physical health. This in-depth resource explains the symptoms of depression including persistent low mood, fatigue, feelings of hopelessness, irritability, changes in appetite, and sleep disturbances. Readers will learn how depression differs from temporary emotional slumps and what biological, environmental, and social factors contribute to its onset. The guide emphasizes early detection and outlines various treatment paths, including cognitive behavioral therapy (CBT), interpersonal therapy (IPT), and antidepressant medications. Also included is a section on stigma, where users are encouraged to seek help without shame or guilt. Real-life stories and quotes from individuals who have managed depression provide hope and encouragement. A self-assessment tool helps readers determine if they should speak to a mental health professional. This resource aims to educate, validate experiences, and guide individuals and families toward recovery and support.'),(11,'Cognitive Behavioral Therapy (CBT) Techniques','CBT, mental health, negative thinking, therapy tools, behavior change, psychological resilience','Cognitive Behavioral Therapy (CBT) is a structured, goal-oriented therapy that helps individuals identify and change unhelpful patterns in thinking and behavior. This resource is a practical introduction to CBT, explaining the core principle: our thoughts, emotions, and behaviors are interconnected. The guide walks users through common CBT exercises such as thought records, behavioral experiments, and graded exposure. Each technique includes sample scenarios and blank templates that can be used at home. Users are encouraged to identify cognitive distortions—like catastrophizing, mind reading, or black-and-white thinking—and apply strategies to reframe them into balanced thoughts. The guide also addresses avoidance behavior and teaches skills to break the cycle of anxiety or depression. Written for self-help users, therapy clients, and peer support workers, this resource includes printable worksheets and links to CBT workbooks, mobile apps, and evidence-based video series. Whether used alone or as a supplement to professional therapy, CBT empowers users to regain control of their mental health.'),(12,'Daily Mental Health Journal Template','journaling, self-reflection, mood tracking, emotions, personal growth, daily log','Journaling is a proven tool for improving mental health by increasing self-awareness, reducing rumination, and promoting emotional regulation. This resource provides a customizable daily mental health journal template with multiple sections to explore and reflect. Users can rate their mood on a 1–10 scale, record triggers, describe significant thoughts or events, and log sleep quality, hydration, and activity levels. Dedicated spaces are provided for gratitude lists, positive affirmations, and reflections on coping strategies used during the day. There is also a section titled “What I Did Well Today” to encourage self-recognition. Each journal page ends with a question to promote insight, such as “What did I learn about myself today?” or “How did I respond to stress today?” The template is available in printable PDF and interactive app format. Long-term journaling helps users identify emotional patterns, prepare for therapy sessions, and set realistic mental wellness goals.'),(13,'Self-Care Checklist for Mental Wellness','self-care, wellness routine, mental health habits, personal development, daily balance','Consistent self-care is essential to maintaining emotional balance and mental resilience. This resource offers a detailed daily, weekly, and monthly self-care checklist tailored to support mental wellness. Activities are divided into categories: Physical (e.g., drink 8 glasses of water, take a 15-minute walk), Emotional (e.g., express feelings, journal your thoughts), Social (e.g., connect with a friend), Intellectual (e.g., read for 20 minutes), and Spiritual (e.g., pray, meditate, or reflect). For each activity, tips are provided on how to build it into your routine sustainably. The checklist is not meant to pressure users into perfection, but to gently guide them toward consistent self-nurturing. Also included is a self-care evaluation quiz to help individuals assess which areas of their life need more attention. With printable PDFs and app-based tracking options, this tool supports both short-term relief and long-term wellbeing.'),(14,'Apps for Mental Health Support','digital therapy, self-help apps, mindfulness tools, CBT, emotional support, guided practices','Mobile apps can make mental health support more accessible and convenient, especially for those hesitant or unable to access traditional therapy. This resource reviews several trusted apps across different categories. “Calm” and “Headspace” offer guided meditations, breathing tools, and sleep stories. “BetterHelp” connects users to licensed therapists for text, video, or phone sessions. “Woebot” is an AI-powered chatbot based on CBT that interacts conversationally to help users track their thoughts and reframe them. “Moodpath” allows users to record daily mood and symptom information, which can be shared with a therapist. Each app review includes features, cost, platform compatibility, and user privacy info. The resource also discusses how to evaluate an app’s credibility, focusing on scientific backing, user reviews, and data protection. Finally, suggestions are provided on how to integrate app use into a broader mental wellness plan that includes offline activities, real human support, and lifestyle habits.'),(15,'How to Help a Friend in Distress','supporting others, mental health crisis, peer help, communication, emotional aid','Supporting a friend experiencing emotional distress can be overwhelming, especially if you feel unsure of what to say or do. This resource provides a clear, compassionate guide to helping someone through a mental health struggle. It covers how to recognize signs of distress, including withdrawal, sudden changes in behavior, expressions of hopelessness, or increased substance use. A step-by-step communication guide helps readers approach conversations gently, listen actively without trying to fix the problem, and express care without judgment. Example dialogue, crisis do’s and don’ts, and boundaries for the helper are provided. It also discusses how to encourage professional help and includes contact info for helplines and therapists. The final section is for the helper—offering tips to manage emotional fatigue, avoid burnout, and understand your role as a supporter. This guide helps build a culture of empathy, trust, and mutual care within families, schools, and communities.'),(16,'Mental Health and Nutrition','food, brain health, mood, depression, nutrition therapy, healthy eating','Emerging research shows that nutrition plays a critical role in mental health. This resource explores the science behind how certain nutrients influence brain chemistry and emotional regulation. It explains the importance of omega-3 fatty acids, B vitamins, magnesium, and probiotics in reducing symptoms of depression and anxiety. The gut-brain axis is introduced, explaining how gut bacteria impact neurotransmitter production like serotonin and dopamine. Readers will learn how high-sugar, high-fat diets may worsen mood disorders, and how to gradually shift toward a nutrient-rich eating plan. Sample meal plans and shopping lists are included for various dietary preferences (vegetarian, budget-conscious, gluten-free). The resource also offers practical tips for meal prepping, managing emotional eating, and eating mindfully. This holistic guide empowers individuals to support their mental wellness through the food choices they make every day, forming an essential part of an overall mental health strategy.'),(17,'Coping with Grief and Loss','grief, bereavement, loss, emotional pain, healing, mental health support','Grief is a deeply personal and often overwhelming experience that follows the loss of a loved one. This resource offers compassionate guidance through the grieving process, helping users understand that there is no “right” way to grieve. It outlines the five commonly referenced stages of grief—denial, anger, bargaining, depression, and acceptance—while emphasizing that not everyone experiences these stages linearly. The guide explores physical, emotional, and cognitive symptoms of grief and provides healthy coping mechanisms such as talking to a therapist, joining support groups, engaging in creative expression, and setting small goals each day. Special attention is given to disenfranchised grief (e.g., miscarriage, pet loss) and how to support others through mourning. Printable worksheets, journaling prompts, and memorial ritual ideas are included to help users process loss in meaningful ways and rebuild emotional stability over time.'),(18,'Healing from Trauma and PTSD','trauma, PTSD, flashbacks, recovery, emotional healing, safety, resilience','Post-Traumatic Stress Disorder (PTSD) and trauma-related stress responses can develop after experiencing or witnessing deeply distressing events. This resource offers a gentle introduction to trauma healing, starting with the neuroscience of trauma: how the brain’s amygdala, hippocampus, and prefrontal cortex respond under prolonged stress. It discusses common symptoms such as hypervigilance, nightmares, emotional numbness, and avoidance. The guide emphasizes the importance of safety and stabilization before engaging in trauma processing work. Therapeutic approaches covered include Eye Movement Desensitization and Reprocessing (EMDR), Somatic Experiencing, and Trauma-Focused CBT. The resource also includes self-care tools such as grounding exercises, trauma-informed yoga, and creating a safety plan. A section on survivor stories provides hope, while downloadable checklists and therapy readiness assessments guide users toward healing at their own pace.'),(19,'Understanding and Managing Burnout','burnout, stress, exhaustion, mental fatigue, work-life balance, recovery','Burnout is a state of emotional, physical, and mental exhaustion caused by prolonged stress—commonly found in students, caregivers, and professionals. This resource explores the three dimensions of burnout: emotional exhaustion, depersonalization, and reduced personal accomplishment. It helps users distinguish burnout from general stress or depression and identifies contributing factors such as overwork, lack of boundaries, and role ambiguity. Readers will learn how to assess their current stress levels using burnout inventories and how to implement recovery strategies like time-off planning, workload redistribution, digital detoxing, and prioritizing restorative sleep. Organizational solutions are discussed for managers or leaders, including flexible scheduling, mental health days, and supportive workplace culture. This guide supports both individuals and institutions in preventing and recovering from burnout holistically.'),(20,'Sleep and Mental Health: Restoring Your Mind and Body','sleep hygiene, insomnia, rest, brain health, sleep cycle, mental clarity','Sleep is foundational to emotional regulation, memory consolidation, and overall mental health. This comprehensive guide explains the connection between sleep and mood, highlighting how chronic sleep deprivation can contribute to depression, anxiety, and cognitive decline. It covers how sleep works—including REM and non-REM stages—and offers practical steps for building a healthy sleep routine. Users will find checklists to assess their sleep hygiene, instructions for creating an ideal sleep environment (light, temperature, noise), and behavioral techniques such as stimulus control, wind-down rituals, and cognitive defusion for racing thoughts. Special tips are included for students, shift workers, and those with chronic insomnia. The resource also explains when to seek medical evaluation for sleep disorders such as sleep apnea or restless leg syndrome. Integrating good sleep habits can significantly improve emotional resilience and daytime focus.'),(21,'Building Emotional Intelligence','emotional intelligence, self-awareness, empathy, regulation, relationships, social skills','Emotional intelligence (EI) refers to the ability to recognize, understand, and manage one’s own emotions and those of others. This resource breaks down the five key components of EI—self-awareness, self-regulation, motivation, empathy, and social skills—and shows how improving each area can lead to stronger relationships, better decision-making, and enhanced mental wellness. Readers will be guided through reflective exercises to identify their emotional triggers, journaling activities to increase awareness, and active listening practices to strengthen empathy. Scenarios are provided to illustrate EI in action—e.g., managing conflict at work, supporting a friend in distress, or staying calm under pressure. Tips for building a daily EI routine, book recommendations, and an EQ self-assessment quiz are included to help users continue their development.'),(22,'Mindfulness for Students and Youth','youth, mindfulness, focus, self-esteem, anxiety reduction, emotional control','Students today face unique challenges—academic pressure, social media influence, identity exploration, and emotional volatility. Mindfulness can be a valuable tool for improving focus, reducing anxiety, and building resilience. This resource introduces the core principles of mindfulness—present-moment awareness, non-judgment, and compassion—and provides student-friendly exercises such as breathing with colors, mindful walking between classes, and body scan relaxation before exams. Special attention is given to building mindful study habits, managing school-related anxiety, and using mindfulness apps tailored for youth (like Smiling Mind or Mindful Powers). The resource also includes a guide for parents and educators on how to introduce mindfulness in classrooms or at home. Worksheets, meditation scripts, and group activity ideas are included.'),(23,'The Role of Art in Mental Healing','art therapy, expression, creativity, emotional release, healing through art','Creative expression is a powerful way to explore emotions, release tension, and process trauma without relying solely on verbal communication. This resource explores the therapeutic benefits of art and how individuals can use drawing, painting, music, dance, or writing to support mental healing. It explains how art bypasses the logical part of the brain and taps into subconscious processing. Techniques like visual journaling, emotion-based painting, collage creation, and guided mandala drawing are introduced with examples and prompts. Case studies demonstrate how art has helped people express grief, cope with trauma, or reduce anxiety. This guide includes safety considerations for triggering content and ways to integrate art into therapy sessions or daily routines—even for those with no prior artistic experience.'),(24,'Navigating Social Anxiety','social anxiety, fear of judgment, shyness, confidence building, social skills','Social anxiety is characterized by intense fear or discomfort in social settings due to concerns about being judged, embarrassed, or rejected. This resource explains the symptoms, causes, and impact of social anxiety, and offers a roadmap for overcoming it gradually and compassionately. Techniques such as graded exposure, thought reframing, and social skills training are covered, along with real-life scripts for handling conversations, attending events, or speaking in class. The guide also emphasizes building self-esteem and developing realistic expectations of social interactions. CBT-based worksheets, confidence-boosting exercises, and virtual role-playing tools are included. For those seeking peer support, a list of online forums and local social anxiety meetups is provided.'),(25,'Emotional First Aid: How to Handle Emotional Injuries','emotional wounds, self-worth, rejection, failure, self-compassion, mental health crisis','Just like physical injuries require first aid, emotional wounds—such as rejection, guilt, failure, and loneliness—need attention to prevent long-term damage. This guide introduces the concept of Emotional First Aid, developed by psychologist Guy Winch. It teaches readers how to recognize emotional pain early, stop negative self-talk, repair self-esteem, and rebuild hope after emotional setbacks. Strategies include practicing self-kindness, seeking healthy distractions, journaling, connecting with others, and challenging distorted beliefs. The resource includes self-assessment tools, daily affirmations, and checklists for when emotional wounds resurface. By responding to emotional pain with care instead of avoidance, individuals can build long-term resilience and better manage life’s ups and downs.'),(26,'Gratitude and Positive Psychology Practices','gratitude, happiness, positive psychology, optimism, strengths, wellbeing','Positive psychology focuses on building what makes life worth living—not just treating illness. This resource explores the role of gratitude in enhancing emotional wellbeing. Readers will learn about the science behind gratitude’s effects on the brain, mood, and relationships. Guided practices include keeping a gratitude journal, writing a gratitude letter, and practicing “three good things” daily. The guide explains how gratitude can shift attention from scarcity to abundance and increase overall life satisfaction. It also introduces other positive psychology interventions like identifying personal strengths, savoring positive moments, and setting goals aligned with intrinsic values. A weekly gratitude planner, printable reflection sheets, and prompts for group discussions are included. Whether used individually or in schools and therapy settings, this resource offers actionable tools to cultivate a more joyful, resilient mindset.');
 /*!40000 ALTER TABLE `resources` ENABLE KEYS */;
 UNLOCK TABLES;
 
@@ -223,6 +226,35 @@ INSERT INTO `user_daily_avg_journal_sentiment` VALUES (1,'marjia','2025-07-06',1
 /*!40000 ALTER TABLE `user_daily_avg_journal_sentiment` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `user_daily_mood_counts`
+--
+
+DROP TABLE IF EXISTS `user_daily_mood_counts`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `user_daily_mood_counts` (
+  `id` int NOT NULL AUTO_INCREMENT,
+  `username` varchar(50) NOT NULL,
+  `date` date NOT NULL,
+  `mood` varchar(45) NOT NULL,
+  `logs` int NOT NULL,
+  `stress_sum` int NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `username_date_mood` (`username`,`date`,`mood`)
+) ENGINE=InnoDB AUTO_INCREMENT=46 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `user_daily_mood_counts`
+--
+
+LOCK TABLES `user_daily_mood_counts` WRITE;
+/*!40000 ALTER TABLE `user_daily_mood_counts` DISABLE KEYS */;
+INSERT INTO `user_daily_mood_counts` VALUES (1,'afsana','2025-07-06','Excited',1,23),(2,'afsana','2025-07-06','Happy',1,7),(3,'afsana','2025-07-07','Angry',1,87),(4,'afsana','2025-07-07','Sad',1,97),(5,'afsana','2025-07-10','Angry',1,70),(6,'afsana','2025-07-10','Happy',1,60),(7,'ameoki','2025-07-08','Happy',1,12),(8,'anika','2025-07-07','Happy',1,50),(9,'aurpy','2025-07-07','Happy',1,15),(10,'mahmuda','2025-07-09','Depressed',1,100),(11,'marjia','2025-07-02','Angry',1,30),(12,'marjia','2025-07-02','Depressed',2,180),(13,'marjia','2025-07-03','Angry',1,100),(14,'marjia','2025-07-03','Sad',2,110),(15,'marjia','2025-07-04','Neutral',1,50),(16,'marjia','2025-07-04','Sad',1,20),(17,'marjia','2025-07-05','Angry',1,68),(18,'marjia','2025-07-05','Depressed',1,100),(19,'marjia','2025-07-05','Excited',1,17),(20,'marjia','2025-07-05','Happy',4,105),(21,'marjia','2025-07-05','Sad',1,60),(22,'marjia','2025-07-06','Depressed',4,330),(23,'marjia','2025-07-06','Excited',2,72),(24,'marjia','2025-07-06','Neutral',1,29),(25,'marjia','2025-07-06','Sad',1,46),(26,'marjia','2025-07-07','Angry',1,67),(27,'marjia','2025-07-07','Depressed',1,100),(28,'marjia','2025-07-07','Excited',3,129),(29,'marjia','2025-07-07','Happy',3,99),(30,'marjia','2025-07-07','Neutral',1,50),(31,'marjia','2025-07-07','Sad',3,91),(32,'marjia','2025-07-08','Depressed',1,70),(33,'marjia','2025-07-10','Happy',1,18),(34,'marjia','2025-09-25','Angry',1,29),(35,'marjia','2025-09-25','Happy',1,14),(36,'marjia','2025-09-25','Sad',1,51),(37,'misha','2025-07-06','Angry',1,92),(38,'misha','2025-07-06','Excited',8,96),(39,'misha','2025-07-06','Happy',2,35),(40,'misha','2025-07-06','Neutral',1,40),(41,'misha','2025-07-06','Sad',1,71),(42,'misha','2025-07-07','Angry',1,50),(43,'misha','2025-07-07','Sad',1,50),(44,'misha','2025-07-10','Angry',1,74),(45,'misha','2025-07-10','Excited',1,69);
+/*!40000 ALTER TABLE `user_daily_mood_counts` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `user_daily_mood_stress`
 --
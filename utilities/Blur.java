@@ -1,36 +1,107 @@
 package utilities;
 
 import java.awt.image.BufferedImage;
-
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gaussian blur approximated by successive box blurs.
+ * <p>
+ * Pixels stay packed: all four channels are summed side by side in one pass over each row and each
+ * column, and the packed result is written back in place. Images with one int per pixel are blurred
+ * directly in their raster; other images are copied out with getRGB and back with setRGB. The only
+ * other buffer is a scratch array that each thread keeps between calls. Box averages are computed
+ * with a 32-bit fixed-point reciprocal, which rounds exactly like dividing for any box narrower than
+ * 4097 pixels.
+ * <p>
+ * Rows and columns are independent within a pass, so images of at least {@link #PARALLEL_PIXELS}
+ * pixels split each pass into bands of rows or columns on the common fork/join pool.
+ * <p>
+ * When the JVM runs with {@code --add-modules jdk.incubator.vector}, column passes are handled by
+ * {@code VectorBlur}. It lives in the separate {@code vector/src} source root, which is only compiled
+ * when that module is available, and is loaded reflectively, so the scalar path keeps working without
+ * it. {@code VectorBlurTest} in {@code vector/test} checks that it blurs exactly like the scalar
+ * path. {@code -Dblur.vector=false} turns it off.
+ */
 public class Blur {
 
+	// Roughly a 512 x 256 backdrop; smaller shadows are faster without forking
+	public static final int PARALLEL_PIXELS = 128 * 1024;
+	// Pixels a band covers before it is blurred rather than split further
+	private static final int BAND_PIXELS = 16 * 1024;
+
+	private static final ThreadLocal<int[]> scratch = new ThreadLocal<>();
+	private static final ColumnBlur vectorColumns = loadVectorBlur();
+
+	/**
+	 * Box blurs whole blocks of columns from {@code from} onward, exactly as the scalar pass would, and
+	 * returns the first column it left for the scalar pass.
+	 */
+	interface ColumnBlur {
+		int blurColumns(int[] source, int[] target, int from, int to, int width, int height, int radius);
+	}
+
 	public static void blur(BufferedImage image, final double radius, int num) {
 
 		final int width = image.getWidth();
 		final int height = image.getHeight();
-		final int[] pixels = new int[width * height];
-		image.getRGB(0, 0, width, height, pixels, 0, width);
+		int[] pixels = rasterPixels(image);
+		final boolean direct = pixels != null;
 
-		int[][] channels = new int[4][];
-		int[] red = new int[width * height];
+		if (!direct) {
+			pixels = new int[width * height];
+			image.getRGB(0, 0, width, height, pixels, 0, width);
+		}
 
-		for (int channel = 0; channel <= 3; channel++) {
-			int[] blurRed = new int[width * height];
-			for (int i = 0; i < width * height; i++) {
-				red[i] = (pixels[i] >> (channel * 8)) & 0xFF;
-			}
-			gaussBlur(red, blurRed, width, height, radius, num);
-			channels[channel] = blurRed;
+		gaussBlur(pixels, scratch(width * height), width, height, radius, num);
+
+		if (!direct) {
+			image.setRGB(0, 0, width, height, pixels, 0, width);
 		}
 
-		for (int i = 0; i < width * height; i++) {
-			pixels[i] = channels[0][i] | channels[1][i] << 8 | channels[2][i] << 16 | channels[3][i] << 24;
+	}
+
+	// The raster's own array when it holds exactly width * height packed pixels, one int each
+	private static int[] rasterPixels(BufferedImage image) {
+
+		switch (image.getType()) {
+			case BufferedImage.TYPE_INT_ARGB:
+			case BufferedImage.TYPE_INT_ARGB_PRE:
+			case BufferedImage.TYPE_INT_RGB:
+			case BufferedImage.TYPE_INT_BGR:
+				break;
+			default:
+				return null;
 		}
 
-		image.setRGB(0, 0, width, height, pixels, 0, width);
+		WritableRaster raster = image.getRaster();
+		if (!(raster.getDataBuffer() instanceof DataBufferInt)
+				|| !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel)
+				|| raster.getSampleModelTranslateX() != 0 || raster.getSampleModelTranslateY() != 0) {
+			return null;
+		}
+
+		DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+		SinglePixelPackedSampleModel model = (SinglePixelPackedSampleModel) raster.getSampleModel();
+		if (buffer.getNumBanks() != 1 || buffer.getOffset() != 0 || model.getScanlineStride() != image.getWidth()) {
+			return null;
+		}
+		return buffer.getData();
 
 	}
 
+	private static int[] scratch(int length) {
+		int[] buffer = scratch.get();
+		if (buffer == null || buffer.length < length) {
+			buffer = new int[length];
+			scratch.set(buffer);
+		}
+		return buffer;
+	}
+
 	private static int[] boxesForGauss(double sigma, int num) {
 
 		double wIdeal = Math.sqrt((12 * sigma * sigma / num) + 1);
@@ -53,96 +124,147 @@ public class Blur {
 
 	}
 
-	private static void gaussBlur(int[] scl, int[] tcl, int width, int height, double radius, int num) {
-		int[] boxes = boxesForGauss(radius, num);
-		boxBlur(scl, tcl, width, height, (boxes[0] - 1) / 2.0);
-		boxBlur(tcl, scl, width, height, (boxes[1] - 1) / 2.0);
-		boxBlur(scl, tcl, width, height, (boxes[2] - 1) / 2.0);
+	// Each box blurs the rows into the scratch buffer and the columns back into the pixels
+	private static void gaussBlur(int[] pixels, int[] buffer, int width, int height, double radius, int num) {
+		boolean parallel = width * height >= PARALLEL_PIXELS;
+		for (int box : boxesForGauss(radius, num)) {
+			int boxRadius = (box - 1) / 2;
+			long scale = ((1L << 32) + box / 2) / box;
+			if (parallel) {
+				ForkJoinPool.commonPool().invoke(new BoxBlurBand(pixels, buffer, 0, height, width, width, 1, boxRadius, scale));
+				ForkJoinPool.commonPool().invoke(new BoxBlurBand(buffer, pixels, 0, width, height, 1, width, boxRadius, scale));
+			} else {
+				blurLines(pixels, buffer, 0, height, width, width, 1, boxRadius, scale);
+				blurLines(buffer, pixels, 0, width, height, 1, width, boxRadius, scale);
+			}
+		}
 	}
 
-	private static void boxBlur(int[] scl, int[] tcl, int width, int height, double radius) {
-		System.arraycopy(scl, 0, tcl, 0, scl.length);
-		boxBlurH4(tcl, scl, width, height, radius);
-		boxBlurT4(scl, tcl, width, height, radius);
+	private static void blurLines(int[] source, int[] target, int from, int to, int length, int lineStep, int pixelStep, int radius, long scale) {
+		if (vectorColumns != null && lineStep == 1) {
+			from = vectorColumns.blurColumns(source, target, from, to, pixelStep, length, radius);
+		}
+		boxBlur(source, target, from, to, length, lineStep, pixelStep, radius, scale);
 	}
 
-	private static void boxBlurH4(int[] scl, int[] tcl, int width, int height, double radius) {
+	/**
+	 * Box blurs lines {@code from} to {@code to} of {@code length} pixels each, clamping at both
+	 * ends. A line starts {@code lineStep} after the previous one and its pixels are
+	 * {@code pixelStep} apart. Package-private so {@code VectorBlurTest} can compare against it.
+	 */
+	static void boxBlur(int[] source, int[] target, int from, int to, int length, int lineStep, int pixelStep, int radius, long scale) {
 
-		double index = 1 / (radius + radius + 1);
+		for (int i = from; i < to; i++) {
 
-		for (int i = 0; i < height; i++) {
-
-			int ti = i * width;
+			int ti = i * lineStep;
 			int li = ti;
-			int ri = (int) (ti + radius);
-			int fv = scl[ti];
-			int lv = scl[ti + width - 1];
-			double val = (radius + 1) * fv;
+			int ri = ti + radius * pixelStep;
+			int fv = source[ti];
+			int lv = source[ti + (length - 1) * pixelStep];
+
+			int a = (radius + 1) * (fv >>> 24);
+			int r = (radius + 1) * ((fv >> 16) & 0xFF);
+			int g = (radius + 1) * ((fv >> 8) & 0xFF);
+			int b = (radius + 1) * (fv & 0xFF);
 
 			for (int j = 0; j < radius; j++) {
-				val += scl[ti + j];
+				int p = source[ti + j * pixelStep];
+				a += p >>> 24;
+				r += (p >> 16) & 0xFF;
+				g += (p >> 8) & 0xFF;
+				b += p & 0xFF;
 			}
 
 			for (int j = 0; j <= radius; j++) {
-				val += scl[ri++] - fv;
-				tcl[ti++] = (int) Math.round(val * index);
+				int p = source[ri];
+				a += (p >>> 24) - (fv >>> 24);
+				r += ((p >> 16) & 0xFF) - ((fv >> 16) & 0xFF);
+				g += ((p >> 8) & 0xFF) - ((fv >> 8) & 0xFF);
+				b += (p & 0xFF) - (fv & 0xFF);
+				target[ti] = pack(a, r, g, b, scale);
+				ri += pixelStep;
+				ti += pixelStep;
 			}
 
-			for (int j = (int) (radius + 1); j < width - radius; j++) {
-				val += scl[ri++] - scl[li++];
-				tcl[ti++] = (int) Math.round(val * index);
+			for (int j = radius + 1; j < length - radius; j++) {
+				int p = source[ri];
+				int q = source[li];
+				a += (p >>> 24) - (q >>> 24);
+				r += ((p >> 16) & 0xFF) - ((q >> 16) & 0xFF);
+				g += ((p >> 8) & 0xFF) - ((q >> 8) & 0xFF);
+				b += (p & 0xFF) - (q & 0xFF);
+				target[ti] = pack(a, r, g, b, scale);
+				li += pixelStep;
+				ri += pixelStep;
+				ti += pixelStep;
 			}
 
-			for (int j = (int) (width - radius); j < width; j++) {
-				val += lv - scl[li++];
-				tcl[ti++] = (int) Math.round(val * index);
+			for (int j = length - radius; j < length; j++) {
+				int q = source[li];
+				a += (lv >>> 24) - (q >>> 24);
+				r += ((lv >> 16) & 0xFF) - ((q >> 16) & 0xFF);
+				g += ((lv >> 8) & 0xFF) - ((q >> 8) & 0xFF);
+				b += (lv & 0xFF) - (q & 0xFF);
+				target[ti] = pack(a, r, g, b, scale);
+				li += pixelStep;
+				ti += pixelStep;
 			}
 
 		}
 
 	}
 
-	private static void boxBlurT4(int[] scl, int[] tcl, int width, int height, double radius) {
-
-		double index = 1 / (radius + radius + 1);
-
-		for (int i = 0; i < width; i++) {
-
-			int ti = i;
-			int li = ti;
-			int ri = (int) (ti + radius * width);
-			int fv = scl[ti];
-			int lv = scl[ti + width * (height - 1)];
-			double val = (radius + 1) * fv;
-
-			for (int j = 0; j < radius; j++) {
-				val += scl[ti + j * width];
-			}
+	private static class BoxBlurBand extends RecursiveAction {
+		private final int[] source, target;
+		private final int from, to, length, lineStep, pixelStep, radius;
+		private final long scale;
+
+		private BoxBlurBand(int[] source, int[] target, int from, int to, int length, int lineStep, int pixelStep, int radius, long scale) {
+			this.source = source;
+			this.target = target;
+			this.from = from;
+			this.to = to;
+			this.length = length;
+			this.lineStep = lineStep;
+			this.pixelStep = pixelStep;
+			this.radius = radius;
+			this.scale = scale;
+		}
 
-			for (int j = 0; j <= radius; j++) {
-				val += scl[ri] - fv;
-				tcl[ti] = (int) Math.round(val * index);
-				ri += width;
-				ti += width;
+		@Override
+		protected void compute() {
+			if ((to - from) * length <= BAND_PIXELS || to - from == 1) {
+				blurLines(source, target, from, to, length, lineStep, pixelStep, radius, scale);
+				return;
 			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new BoxBlurBand(source, target, from, mid, length, lineStep, pixelStep, radius, scale),
+					new BoxBlurBand(source, target, mid, to, length, lineStep, pixelStep, radius, scale));
+		}
+	}
 
-			for (int j = (int) (radius + 1); j < height - radius; j++) {
-				val += scl[ri] - scl[li];
-				tcl[ti] = (int) Math.round(val * index);
-				li += width;
-				ri += width;
-				ti += width;
-			}
+	private static ColumnBlur loadVectorBlur() {
 
-			for (int j = (int) (height - radius); j < height; j++) {
-				val += lv - scl[li];
-				tcl[ti] = (int) Math.round(val * index);
-				li += width;
-				ti += width;
-			}
+		if (!Boolean.parseBoolean(System.getProperty("blur.vector", "true"))
+				|| ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return null;
+		}
 
+		// Absent unless vector/src was compiled
+		try {
+			return (ColumnBlur) Class.forName("utilities.VectorBlur").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
 		}
 
 	}
 
+	// Rounds each box sum divided by the box width, using scale = 2^32 / width
+	private static int pack(int a, int r, int g, int b, long scale) {
+		return (int) ((a * scale + (1L << 31)) >>> 32) << 24
+				| (int) ((r * scale + (1L << 31)) >>> 32) << 16
+				| (int) ((g * scale + (1L << 31)) >>> 32) << 8
+				| (int) ((b * scale + (1L << 31)) >>> 32);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package utilities;
+
+import java.awt.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user cache of the data behind the analysis charts.
+ * <p>
+ * Chart panels read their data from here while painting instead of querying MySQL, so resizing or
+ * exposing a window only repaints from the cached snapshot. A missing or stale snapshot is loaded
+ * through {@link DataAccess} and the requesting component is repainted once it arrives. Snapshots
+ * are replaced, never modified, and are reloaded only after {@link #invalidate(String)} is called
+ * by a save path or when the day changes.
+ */
+public class ChartCache {
+
+    private static final Map<String, Map<String, Slot>> slots = new HashMap<>();
+    private static final Map<String, Long> generations = new HashMap<>();
+
+    private ChartCache() {
+
+    }
+
+    /**
+     * Returns the current snapshot of {@code chart} for {@code username}, or {@code null} while the
+     * first load is still running. {@code target} is repainted when a newer snapshot is available.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> T get(String username, String chart, Component target, DataAccess.Query<T> loader) {
+        Slot slot = slots.computeIfAbsent(username, user -> new HashMap<>()).computeIfAbsent(chart, key -> new Slot());
+        long generation = generations.getOrDefault(username, 0L);
+        LocalDate today = LocalDate.now();
+
+        if (slot.generation != generation || !today.equals(slot.day)) {
+            if (target != null && !slot.waiting.contains(target)) {
+                slot.waiting.add(target);
+            }
+            if (!slot.loading) {
+                slot.loading = true;
+                DataAccess.supply(loader).whenComplete((value, failure) -> loaded(slot, generation, today, value, failure));
+            }
+        }
+        return (T) slot.value;
+    }
+
+    /**
+     * Marks every chart snapshot of {@code username} as stale. Existing snapshots keep being painted
+     * until their replacements have loaded.
+     */
+    public static synchronized void invalidate(String username) {
+        generations.merge(username, 1L, Long::sum);
+    }
+
+    private static void loaded(Slot slot, long generation, LocalDate day, Object value, Throwable failure) {
+        List<Component> waiting;
+        synchronized (ChartCache.class) {
+            slot.loading = false;
+            if (failure != null) {
+                DataAccess.unwrap(failure).printStackTrace();
+            } else {
+                slot.value = value;
+            }
+            // A failed load is not retried until the next invalidation, so painting cannot spin on errors
+            slot.generation = generation;
+            slot.day = day;
+            waiting = new ArrayList<>(slot.waiting);
+            slot.waiting.clear();
+        }
+        for (Component component : waiting) {
+            component.repaint();
+        }
+    }
+
+    private static class Slot {
+        private Object value;
+        private long generation = -1;
+        private LocalDate day;
+        private boolean loading;
+        private final List<Component> waiting = new ArrayList<>();
+    }
+}
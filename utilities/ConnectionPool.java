@@ -0,0 +1,395 @@
+package utilities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded JDBC connection pool used by {@link Database}.
+ * <p>
+ * Callers borrow a connection and hand it back by calling {@code close()} on it, so the existing
+ * try-with-resources blocks in the frames return the connection to the pool instead of tearing
+ * down the physical MySQL session. Idle connections are validated before reuse, retired once
+ * they pass their maximum lifetime, and connections held for too long are reported as leaks.
+ * A leak report names the few calling frames that borrowed the connection, found with a
+ * {@link StackWalker} that stops after {@link #BORROW_SITE_FRAMES} frames; {@code -Dpool.leakTraces=true}
+ * records the whole stack instead. A leak threshold of zero turns detection and the recording off.
+ * Each physical connection keeps a {@link StatementCache}, so {@code prepareStatement(sql)} reuses
+ * the statement prepared the last time the same SQL ran on that connection.
+ * <p>
+ * Every statement handed out during a loan reports the borrowed connection, never the physical one,
+ * and any statement still open when the connection is returned is closed with it.
+ */
+public class ConnectionPool {
+
+    private static final int BORROW_SITE_FRAMES = 4;
+    private static final boolean FULL_LEAK_TRACES = Boolean.getBoolean("pool.leakTraces");
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final long borrowTimeoutMillis;
+    private final long validationIdleMillis;
+    private final long maxLifetimeMillis;
+    private final long leakThresholdMillis;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<Lease> leased = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, int maxSize, long borrowTimeoutMillis,
+                          long validationIdleMillis, long maxLifetimeMillis, long leakThresholdMillis,
+                          int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationIdleMillis = validationIdleMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 5, 5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Borrows a connection, waiting up to the configured timeout when every connection is in use.
+     * Closing the returned connection gives it back to the pool.
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out waiting for a database connection after " + borrowTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = new PooledConnection(DriverManager.getConnection(url, user, password));
+            }
+            Lease lease = new Lease(pooled);
+            leased.add(lease);
+            return lease.proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getActiveCount() {
+        return leased.size();
+    }
+
+    /**
+     * Closes every idle connection and stops the housekeeper. Connections still on loan are
+     * closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.poll()) != null) {
+            pooled.discard();
+        }
+    }
+
+    private PooledConnection takeIdle() {
+        PooledConnection pooled;
+        long now = System.currentTimeMillis();
+        while ((pooled = idle.pollFirst()) != null) {
+            if (pooled.isExpired(now)) {
+                pooled.discard();
+            } else if (now - pooled.lastReturned >= validationIdleMillis && !pooled.isValid()) {
+                pooled.discard();
+            } else {
+                return pooled;
+            }
+        }
+        return null;
+    }
+
+    private void release(Lease lease) {
+        leased.remove(lease);
+        PooledConnection pooled = lease.pooled;
+        try {
+            lease.closeStatements();
+            if (closed || pooled.isExpired(System.currentTimeMillis()) || !pooled.reset()) {
+                pooled.discard();
+            } else {
+                pooled.lastReturned = System.currentTimeMillis();
+                // Most recently used first, so rarely used connections age out and get validated
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+
+        for (PooledConnection pooled : idle) {
+            if (pooled.isExpired(now) && idle.remove(pooled)) {
+                pooled.discard();
+            }
+        }
+
+        if (leakThresholdMillis <= 0) {
+            return;
+        }
+        for (Lease lease : leased) {
+            if (!lease.leakReported && now - lease.borrowedAt >= leakThresholdMillis) {
+                lease.leakReported = true;
+                StringBuilder report = new StringBuilder("Possible connection leak: connection borrowed ")
+                        .append(now - lease.borrowedAt).append(" ms ago has not been returned. Borrowed at:");
+                for (StackWalker.StackFrame frame : lease.borrowSite) {
+                    report.append(System.lineSeparator()).append("\tat ").append(frame);
+                }
+                System.err.println(report);
+            }
+        }
+    }
+
+    // The frames that called into the pool, skipping the pool's own and Database's
+    private List<StackWalker.StackFrame> borrowSite() {
+        if (leakThresholdMillis <= 0) {
+            return List.of();
+        }
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().startsWith(ConnectionPool.class.getName())
+                        && !frame.getClassName().equals(Database.class.getName()))
+                .limit(FULL_LEAK_TRACES ? Long.MAX_VALUE : BORROW_SITE_FRAMES)
+                .toList());
+    }
+
+    private class PooledConnection {
+        private final Connection connection;
+        private final StatementCache statements = new StatementCache(statementCacheSize);
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long lastReturned = createdAt;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        private boolean isExpired(long now) {
+            return now - createdAt >= maxLifetimeMillis;
+        }
+
+        private boolean isValid() {
+            try {
+                return connection.isValid(2);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        // Undo per-borrower state so the next borrower starts from a clean autocommit session
+        private boolean reset() {
+            try {
+                if (connection.isClosed()) {
+                    return false;
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                connection.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void discard() {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+
+            }
+        }
+    }
+
+    private class Lease implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final Connection proxy;
+        private final long borrowedAt = System.currentTimeMillis();
+        private final List<StackWalker.StackFrame> borrowSite = borrowSite();
+        private final List<Statement> statements = new ArrayList<>();
+        private volatile boolean returned;
+        private volatile boolean leakReported;
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+            this.proxy = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    synchronized (this) {
+                        if (!returned) {
+                            returned = true;
+                            release(this);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + pooled.connection + "]";
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    if (method.getName().equals("prepareStatement") && args.length == 1) {
+                        PreparedStatement cached = pooled.statements.prepare(pooled.connection, this.proxy, (String) args[0]);
+                        if (cached != null) {
+                            return track(cached);
+                        }
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(pooled.connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (result instanceof Statement) {
+                        return track(wrap((Statement) result, method.getReturnType()));
+                    }
+                    return result;
+            }
+        }
+
+        // Statements outside the cache report this lease as their connection and forget themselves once closed
+        private Statement wrap(Statement statement, Class<?> type) {
+            return (Statement) Proxy.newProxyInstance(
+                    type.getClassLoader(), new Class<?>[]{type}, (wrapper, method, args) -> {
+                        switch (method.getName()) {
+                            case "getConnection":
+                                return proxy;
+                            case "close":
+                                synchronized (this) {
+                                    statements.remove(wrapper);
+                                }
+                                statement.close();
+                                return null;
+                            case "equals":
+                                return wrapper == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(wrapper);
+                            default:
+                                try {
+                                    return results(method.invoke(statement, args), (Statement) wrapper);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                        }
+                    });
+        }
+
+        private synchronized Statement track(Statement statement) {
+            // Cached statements are recycled without telling the lease, so drop the closed ones now and then
+            if (statements.size() >= 16) {
+                statements.removeIf(Lease::isClosed);
+            }
+            statements.add(statement);
+            return statement;
+        }
+
+        private void closeStatements() {
+            List<Statement> open;
+            synchronized (this) {
+                open = new ArrayList<>(statements);
+                statements.clear();
+            }
+            for (Statement statement : open) {
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+
+                }
+            }
+        }
+
+        private static boolean isClosed(Statement statement) {
+            try {
+                return statement.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Wraps a result set so {@code getStatement()} returns {@code owner} rather than the physical
+     * statement behind it.
+     */
+    static Object results(Object value, Statement owner) {
+        if (!(value instanceof ResultSet)) {
+            return value;
+        }
+        ResultSet resultSet = (ResultSet) value;
+        return Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (wrapper, method, args) -> {
+                    switch (method.getName()) {
+                        case "getStatement":
+                            return owner;
+                        case "equals":
+                            return wrapper == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(wrapper);
+                        default:
+                            try {
+                                return method.invoke(resultSet, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+}
@@ -0,0 +1,111 @@
+package utilities;
+
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.neural.rnn.RNNCoreAnnotations;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.sentiment.SentimentCoreAnnotations;
+import edu.stanford.nlp.trees.Tree;
+import edu.stanford.nlp.util.CoreMap;
+import org.ejml.simple.SimpleMatrix;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Stanford CoreNLP's recursive neural network sentiment model.
+ * <p>
+ * Text is split with a tokenize/ssplit pipeline, and each sentence is then parsed and scored by a
+ * pos/parse/sentiment pipeline that reuses the splitter's tokens.
+ */
+public class CoreNlpSentimentEngine implements SentimentEngine<CoreMap> {
+
+    private static final String SENTIMENT_MODEL = "edu/stanford/nlp/models/sentiment/sentiment.ser.gz";
+
+    private StanfordCoreNLP splitter;
+    private StanfordCoreNLP scorer;
+
+    @Override
+    public String getName() {
+        return "corenlp";
+    }
+
+    // The models jar's file name carries the CoreNLP release the sentiment model came from
+    @Override
+    public String getVersion() {
+        URL model = getClass().getClassLoader().getResource(SENTIMENT_MODEL);
+        if (model == null) {
+            return "unknown";
+        }
+        String location = model.toString();
+        int jarEnd = location.indexOf("!/");
+        if (jarEnd >= 0) {
+            location = location.substring(0, jarEnd);
+        }
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public void load() throws Exception {
+        File ejml = new File("lib/ejml-0.23.jar");
+        if (!ejml.exists()) {
+            throw new FileNotFoundException("ejml-0.23.jar not found at: " + ejml.getAbsolutePath());
+        }
+
+        System.setProperty("stanford.nlp.pipeline.model.path", new File("lib").getAbsolutePath());
+
+        Properties splitProps = new Properties();
+        splitProps.setProperty("annotators", "tokenize, ssplit");
+        splitProps.setProperty("tokenize.language", "en");
+
+        // Runs on sentences that were already tokenized and split by the splitter
+        Properties scoreProps = new Properties();
+        scoreProps.setProperty("annotators", "pos, parse, sentiment");
+        scoreProps.setProperty("tokenize.language", "en");
+
+        splitter = new StanfordCoreNLP(splitProps);
+        scorer = new StanfordCoreNLP(scoreProps, false);
+    }
+
+    @Override
+    public List<CoreMap> split(String text) {
+        List<CoreMap> sentences = splitter.process(text).get(CoreAnnotations.SentencesAnnotation.class);
+        return sentences != null ? sentences : Collections.emptyList();
+    }
+
+    @Override
+    public List<String> tokens(CoreMap sentence) {
+        List<String> words = new ArrayList<>();
+        for (CoreLabel token : sentence.get(CoreAnnotations.TokensAnnotation.class)) {
+            words.add(token.word());
+        }
+        return words;
+    }
+
+    @Override
+    public SentimentScore score(CoreMap sentence) {
+        Annotation single = new Annotation(sentence.get(CoreAnnotations.TextAnnotation.class));
+        single.set(CoreAnnotations.TokensAnnotation.class, sentence.get(CoreAnnotations.TokensAnnotation.class));
+        single.set(CoreAnnotations.SentencesAnnotation.class, Collections.singletonList(sentence));
+        scorer.annotate(single);
+
+        Tree tree = sentence.get(SentimentCoreAnnotations.SentimentAnnotatedTree.class);
+        SimpleMatrix sm = RNNCoreAnnotations.getPredictions(tree);
+        double[] probabilities = new double[5];
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] = sm.get(i);
+        }
+        return new SentimentScore(RNNCoreAnnotations.getPredictedClass(tree), probabilities);
+    }
+
+    @Override
+    public boolean isExpensive() {
+        return true;
+    }
+}
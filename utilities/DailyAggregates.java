@@ -0,0 +1,162 @@
+package utilities;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Maintains the {@code user_daily_avg_journal_sentiment} and {@code user_daily_mood_stress} summary
+ * rows as journal entries and mood logs are saved.
+ * <p>
+ * Nothing is kept in memory: every write updates running totals held by MySQL, so other instances
+ * of the app or other writers cannot leave a row built from stale totals. A journal entry folds its
+ * percentages into the stored averages and count with a single {@code INSERT ... ON DUPLICATE KEY
+ * UPDATE}, whose row lock orders concurrent writers. The dominant mood needs a count per mood, so a
+ * mood log bumps its mood's count and stress sum in {@code user_daily_mood_counts} the same way, and
+ * the day's summary row is then derived from those few rows rather than from {@code mood_logs}.
+ * <p>
+ * The record methods must be called after the raw row has been inserted, in the same transaction.
+ * {@link #checkMoodDay} compares a day's summary with the number of logs the caller has seen and
+ * only then rebuilds the day from {@code mood_logs} with {@link #recompute}.
+ * <p>
+ * The upserts name the inserted row {@code new}, which needs MySQL 8.0.19 or later.
+ */
+public class DailyAggregates {
+
+    private static final String JOURNAL_UPSERT =
+            "INSERT INTO user_daily_avg_journal_sentiment " +
+                    "(username, date, avg_very_positive, avg_positive, avg_neutral, " +
+                    "avg_negative, avg_very_negative, entry_count) VALUES (?, ?, ?, ?, ?, ?, ?, 1) AS new " +
+                    // Assignments run left to right, so the averages still see the old entry_count
+                    "ON DUPLICATE KEY UPDATE " +
+                    "avg_very_positive = (avg_very_positive * entry_count + new.avg_very_positive) / (entry_count + 1), " +
+                    "avg_positive = (avg_positive * entry_count + new.avg_positive) / (entry_count + 1), " +
+                    "avg_neutral = (avg_neutral * entry_count + new.avg_neutral) / (entry_count + 1), " +
+                    "avg_negative = (avg_negative * entry_count + new.avg_negative) / (entry_count + 1), " +
+                    "avg_very_negative = (avg_very_negative * entry_count + new.avg_very_negative) / (entry_count + 1), " +
+                    "entry_count = entry_count + 1";
+
+    private static final String MOOD_COUNT_UPSERT =
+            "INSERT INTO user_daily_mood_counts (username, date, mood, logs, stress_sum) " +
+                    "VALUES (?, ?, ?, 1, ?) AS new " +
+                    "ON DUPLICATE KEY UPDATE logs = logs + 1, stress_sum = stress_sum + new.stress_sum";
+
+    // The most logged mood, or "Mixed Mood" when several share the highest count
+    private static final String MOOD_SUMMARY_UPSERT =
+            "INSERT INTO user_daily_mood_stress (username, date, average_score, dominant_type, mood_cont) " +
+                    "SELECT * FROM (SELECT ? AS username, ? AS date, SUM(stress_sum) / SUM(logs) AS score, " +
+                    "IF(SUM(logs = top) > 1, 'Mixed Mood', MAX(IF(logs = top, mood, NULL))) AS dominant, " +
+                    "SUM(logs) AS total " +
+                    "FROM (SELECT mood, logs, stress_sum, MAX(logs) OVER () AS top FROM user_daily_mood_counts " +
+                    "WHERE username = ? AND date = ?) moods HAVING total > 0) totals " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "average_score = totals.score, " +
+                    "dominant_type = totals.dominant, " +
+                    "mood_cont = totals.total";
+
+    private static final String MOOD_COUNT_REBUILD =
+            "INSERT INTO user_daily_mood_counts (username, date, mood, logs, stress_sum) " +
+                    "SELECT ?, ?, mood, COUNT(*), SUM(stress_level) FROM mood_logs " +
+                    "WHERE username = ? AND log_time >= ? AND log_time < ? GROUP BY mood";
+
+    private DailyAggregates() {
+
+    }
+
+    /**
+     * Adds a journal entry's class percentages, ordered from very positive to very negative, to the
+     * day's averages and count.
+     */
+    public static void recordJournalEntry(Connection conn, String username, LocalDate date,
+                                          double[] classes) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(JOURNAL_UPSERT)) {
+            stmt.setString(1, username);
+            stmt.setDate(2, Date.valueOf(date));
+            for (int i = 0; i < 5; i++) {
+                stmt.setDouble(3 + i, classes[i]);
+            }
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Counts a mood log towards its mood for the day, then rewrites the day's average stress,
+     * dominant mood and log count from the per-mood totals.
+     */
+    public static void recordMoodLog(Connection conn, String username, LocalDate date,
+                                     String mood, int stressLevel) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(MOOD_COUNT_UPSERT)) {
+            stmt.setString(1, username);
+            stmt.setDate(2, Date.valueOf(date));
+            stmt.setString(3, mood);
+            stmt.setInt(4, stressLevel);
+            stmt.executeUpdate();
+        }
+        updateMoodSummary(conn, username, date);
+    }
+
+    /**
+     * Consistency check for a day's mood summary. {@code logCount} is the number of that day's mood
+     * logs the caller has just read; the day is recomputed only when the summary disagrees with it.
+     */
+    public static void checkMoodDay(String username, LocalDate date, int logCount) throws SQLException {
+        int summarized = 0;
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT mood_cont FROM user_daily_mood_stress WHERE username = ? AND date = ?")) {
+            stmt.setString(1, username);
+            stmt.setDate(2, Date.valueOf(date));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    summarized = rs.getInt(1);
+                }
+            }
+        }
+        if (summarized != logCount) {
+            recompute(username, date);
+        }
+    }
+
+    /**
+     * Rebuilds a day's per-mood totals and summary row from {@code mood_logs}.
+     */
+    public static void recompute(String username, LocalDate date) throws SQLException {
+        Database.inTransaction(conn -> {
+            deleteDay(conn, "DELETE FROM user_daily_mood_counts WHERE username = ? AND date = ?", username, date);
+            deleteDay(conn, "DELETE FROM user_daily_mood_stress WHERE username = ? AND date = ?", username, date);
+            try (PreparedStatement stmt = conn.prepareStatement(MOOD_COUNT_REBUILD)) {
+                stmt.setString(1, username);
+                stmt.setDate(2, Date.valueOf(date));
+                stmt.setString(3, username);
+                stmt.setTimestamp(4, Timestamp.valueOf(date.atStartOfDay()));
+                stmt.setTimestamp(5, Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+                stmt.executeUpdate();
+            }
+            updateMoodSummary(conn, username, date);
+            return null;
+        });
+    }
+
+    // Writes nothing for a day without logs
+    private static void updateMoodSummary(Connection conn, String username, LocalDate date) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(MOOD_SUMMARY_UPSERT)) {
+            stmt.setString(1, username);
+            stmt.setDate(2, Date.valueOf(date));
+            stmt.setString(3, username);
+            stmt.setDate(4, Date.valueOf(date));
+            stmt.executeUpdate();
+        }
+    }
+
+    private static void deleteDay(Connection conn, String delete, String username, LocalDate date) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(delete)) {
+            stmt.setString(1, username);
+            stmt.setDate(2, Date.valueOf(date));
+            stmt.executeUpdate();
+        }
+    }
+}
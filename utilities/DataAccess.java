@@ -0,0 +1,58 @@
+package utilities;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs database work off the Event Dispatch Thread.
+ * <p>
+ * Each task gets its own virtual thread, so a slow query only parks that thread while it waits on
+ * MySQL. The returned future is completed on the EDT, which means callbacks such as
+ * {@code thenAccept} or {@code whenComplete} can update Swing components directly.
+ */
+public class DataAccess {
+
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private DataAccess() {
+
+    }
+
+    @FunctionalInterface
+    public interface Query<T> {
+        T run() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Update {
+        void run() throws Exception;
+    }
+
+    public static <T> CompletableFuture<T> supply(Query<T> query) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                T result = query.run();
+                SwingUtilities.invokeLater(() -> future.complete(result));
+            } catch (Throwable t) {
+                SwingUtilities.invokeLater(() -> future.completeExceptionally(t));
+            }
+        });
+        return future;
+    }
+
+    public static CompletableFuture<Void> run(Update update) {
+        return supply(() -> {
+            update.run();
+            return null;
+        });
+    }
+
+    // Failures reach dependent stages wrapped in a CompletionException
+    public static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
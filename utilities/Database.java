@@ -2,50 +2,104 @@ package utilities;
 
 import app.App;
 
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetProvider;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.*;
 
 public class Database {
 
-    private static Connection connection = null;
+    private static final String URL = "jdbc:mysql://localhost/";
+    // Server-side prepared statements, kept open between uses by each pooled connection's
+    // StatementCache rather than the driver's cache. Batched inserts are sent as one multi-row INSERT.
+    private static final String URL_OPTIONS = "?useServerPrepStmts=true&rewriteBatchedStatements=true";
+    private static final String USER = "root";
+    private static final String PASSWORD = "#s0ql??@A!>7";
+
+    private static final int POOL_SIZE = 8;
+    private static final long BORROW_TIMEOUT_MILLIS = 10_000;
+    private static final long VALIDATION_IDLE_MILLIS = 30_000;
+    private static final long MAX_LIFETIME_MILLIS = 30 * 60_000;
+    private static final long LEAK_THRESHOLD_MILLIS = 60_000;
+    private static final int STATEMENT_CACHE_SIZE = 32;
+
+    @FunctionalInterface
+    public interface UnitOfWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    private static ConnectionPool pool = null;
+    private static RowSetFactory rowSetFactory = null;
+
+    private static synchronized ConnectionPool getPool() {
+        if (pool == null) {
+            pool = new ConnectionPool(URL + App.getDatabase() + URL_OPTIONS, USER, PASSWORD, POOL_SIZE,
+                    BORROW_TIMEOUT_MILLIS, VALIDATION_IDLE_MILLIS, MAX_LIFETIME_MILLIS, LEAK_THRESHOLD_MILLIS,
+                    STATEMENT_CACHE_SIZE);
+        }
+        return pool;
+    }
+
+    private static synchronized RowSetFactory getRowSetFactory() throws SQLException {
+        if (rowSetFactory == null) {
+            rowSetFactory = RowSetProvider.newFactory();
+        }
+        return rowSetFactory;
+    }
 
     public static void checkConnection() {
         try {
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(
-                        "jdbc:mysql://localhost/" + App.getDatabase(),
-                        "root",
-                        "#s0ql??@A!>7"
-                );
-            }
+            // Borrowing once opens the first physical connection and reports problems early
+            getPool().borrow().close();
         } catch (Exception e) {
             showError("Could not connect to database: " + App.getDatabase() + "\nError: " + e.getMessage());
         }
     }
 
+    // Results are copied into a disconnected row set so the connection can go straight back to the pool
     public static ResultSet executeQuery(String query, Object... params) {
-        try {
-            checkConnection();
-            PreparedStatement statement = connection.prepareStatement(query);
+        try (Connection conn = getPool().borrow();
+             PreparedStatement statement = conn.prepareStatement(query)) {
 
             // Set parameters if any
             for (int i = 0; i < params.length; i++) {
                 statement.setObject(i + 1, params[i]);
             }
 
-            return statement.executeQuery();
+            try (ResultSet rs = statement.executeQuery()) {
+                CachedRowSet rowSet = getRowSetFactory().createCachedRowSet();
+                rowSet.populate(rs);
+                return rowSet;
+            }
         } catch (Exception e) {
             showError("Database query failed: " + e.getMessage());
             return null;
         }
     }
 
+    // Updates arrive as complete SQL text, so a plain statement keeps them out of the statement cache
     public static int executeUpdate(String update) {
-        try {
-            checkConnection();
-            PreparedStatement statement = connection.prepareStatement(update);
+        try (Connection conn = getPool().borrow();
+             Statement statement = conn.createStatement()) {
+            return statement.executeUpdate(update);
+        } catch (Exception e) {
+            showError("Database update failed: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    public static int executeUpdate(String update, Object... params) {
+        try (Connection conn = getPool().borrow();
+             PreparedStatement statement = conn.prepareStatement(update)) {
+
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
             return statement.executeUpdate();
         } catch (Exception e) {
             showError("Database update failed: " + e.getMessage());
@@ -53,23 +107,65 @@ public class Database {
         }
     }
 
+    // Closing the returned statement also returns its connection to the pool
     public static PreparedStatement prepareStatement(String sql) throws SQLException {
-        checkConnection();
-        return connection.prepareStatement(sql);
+        Connection conn = getPool().borrow();
+        try {
+            PreparedStatement statement = conn.prepareStatement(sql);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        try {
+                            return method.invoke(statement, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (method.getName().equals("close")) {
+                                conn.close();
+                            }
+                        }
+                    });
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
     }
 
+    // Borrows a pooled connection; closing it returns it to the pool
     public static Connection getConnection() {
-        checkConnection();
-        return connection;
+        try {
+            return getPool().borrow();
+        } catch (SQLException e) {
+            showError("Could not connect to database: " + App.getDatabase() + "\nError: " + e.getMessage());
+            return null;
+        }
     }
 
-    public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+    // Runs every statement of the work in one transaction on one pooled connection.
+    // Any failure rolls the whole unit back and is rethrown to the caller.
+    public static <T> T inTransaction(UnitOfWork<T> work) throws SQLException {
+        try (Connection conn = getPool().borrow()) {
+            conn.setAutoCommit(false);
+            try {
+                T result = work.run(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
             }
-        } catch (SQLException e) {
-            showError("Error closing database connection: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void closeConnection() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
         }
     }
 
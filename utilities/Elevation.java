@@ -80,7 +80,7 @@ public class Elevation {
 			graphics2d.setColor(Utilities.brighten(target.getBackground(), (int) (((66 / (1 + Math.exp(-2 * level))) - 33))));
 			graphics2d.fill(new RoundRectangle2D.Double(0, 0, target.getWidth(), target.getHeight(), borderRadius, borderRadius));
 		} else {
-			graphics.drawImage(shadow.render(target.getWidth(), target.getHeight(), borderRadius, level), 0, 0, null);
+			shadow.paint(graphics, target.getWidth(), target.getHeight(), borderRadius, level);
 		}
 	}
 
@@ -0,0 +1,60 @@
+package utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ResourceSearch} backed by the {@code ft_resources} FULLTEXT index.
+ * <p>
+ * Every query word is required and matched as a prefix, as in {@link ResourceIndex}. MySQL
+ * ranks by relevance, and with a {@code LIMIT} it keeps only the best rows while sorting instead
+ * of ordering the whole match set. Words shorter than InnoDB's default
+ * {@code innodb_ft_min_token_size} are never indexed, so they are left out of the query, and a
+ * query made only of such words finds nothing rather than listing every resource.
+ */
+public class FullTextResourceSearch implements ResourceSearch {
+
+    private static final int MIN_WORD_LENGTH = 3;
+
+    @Override
+    public List<ResourceIndex.Resource> search(String query, int limit) throws SQLException {
+        List<String> words = ResourceIndex.tokenize(query);
+        StringBuilder booleanQuery = new StringBuilder();
+        for (String word : words) {
+            if (word.length() >= MIN_WORD_LENGTH) {
+                booleanQuery.append('+').append(word).append("* ");
+            }
+        }
+        // Only a truly empty query lists everything; words that cannot be indexed match nothing
+        if (!words.isEmpty() && booleanQuery.length() == 0) {
+            return new ArrayList<>();
+        }
+
+        List<ResourceIndex.Resource> results = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = booleanQuery.length() == 0
+                     ? conn.prepareStatement("SELECT id, title FROM resources ORDER BY title, id LIMIT ?")
+                     : conn.prepareStatement(
+                             "SELECT id, title, MATCH (title, keywords, content) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+                                     "FROM resources WHERE MATCH (title, keywords, content) AGAINST (? IN BOOLEAN MODE) " +
+                                     "ORDER BY relevance DESC, title LIMIT ?")) {
+            int index = 1;
+            if (booleanQuery.length() > 0) {
+                stmt.setString(index++, booleanQuery.toString().trim());
+                stmt.setString(index++, booleanQuery.toString().trim());
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(new ResourceIndex.Resource(rs.getInt("id"), rs.getString("title")));
+                }
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,220 @@
+package utilities;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Word-list sentiment scorer for machines that cannot afford the CoreNLP parse.
+ * <p>
+ * Each word and two-word phrase in the lexicon carries a valence between -4 and +4. A sentence's
+ * valences are adjusted for boosters ("very"), dampeners ("slightly"), negation in the three
+ * preceding words and a contrastive "but", then summed and squashed into [-1, 1]. That compound
+ * value is placed on the five-class scale and spread into class probabilities, so callers get the
+ * same shape of result as from the RNN model. Scoring is a handful of hash lookups per word.
+ * <p>
+ * Extra or overriding entries can be supplied with {@code -Dsentiment.lexicon.file=<path>}, one
+ * {@code word<TAB>valence} per line.
+ */
+public class LexiconSentimentEngine implements SentimentEngine<String[]> {
+
+    // Bump whenever the built-in word list or the scoring rules change
+    private static final int LEXICON_VERSION = 1;
+
+    private static final double NEGATION_SCALAR = -0.74;
+    private static final double BOOSTER_SCALAR = 1.5;
+    private static final double DAMPENER_SCALAR = 0.5;
+    private static final double NORMALIZATION_ALPHA = 15;
+    private static final double CLASS_SPREAD = 0.6;
+
+    private static final Set<String> NEGATIONS = new HashSet<>(Arrays.asList(
+            "not", "no", "never", "nothing", "nobody", "none", "neither", "nor", "nowhere",
+            "cannot", "without", "hardly", "barely", "rarely", "seldom"));
+    private static final Set<String> BOOSTERS = new HashSet<>(Arrays.asList(
+            "very", "really", "so", "extremely", "incredibly", "totally", "completely", "absolutely",
+            "deeply", "truly", "super", "especially", "highly", "too", "utterly", "quite"));
+    private static final Set<String> DAMPENERS = new HashSet<>(Arrays.asList(
+            "slightly", "somewhat", "kinda", "kind", "sort", "sorta", "little", "bit", "marginally", "almost"));
+
+    private final Map<String, Double> lexicon = new HashMap<>();
+
+    @Override
+    public String getName() {
+        return "lexicon";
+    }
+
+    @Override
+    public String getVersion() {
+        String extra = System.getProperty("sentiment.lexicon.file");
+        if (extra == null) {
+            return String.valueOf(LEXICON_VERSION);
+        }
+        File file = new File(extra);
+        return LEXICON_VERSION + "+" + file.getName() + ":" + file.length() + ":" + file.lastModified();
+    }
+
+    @Override
+    public void load() throws IOException {
+        addDefaults();
+        String extra = System.getProperty("sentiment.lexicon.file");
+        if (extra != null) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(new File(extra)))) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    String[] parts = line.split("\t");
+                    if (parts.length == 2 && !line.startsWith("#")) {
+                        try {
+                            lexicon.put(parts[0].trim().toLowerCase(Locale.ROOT), Double.parseDouble(parts[1].trim()));
+                        } catch (NumberFormatException e) {
+                            System.err.println("Skipping line " + lineNumber + " of " + extra + ": invalid valence '" + parts[1].trim() + "'");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<String[]> split(String text) {
+        List<String[]> sentences = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : '.';
+            if (Character.isLetterOrDigit(c) || (c == '\'' && word.length() > 0) || c == '\u2019') {
+                word.append(c == '\u2019' ? '\'' : Character.toLowerCase(c));
+                continue;
+            }
+            if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+            if ((c == '.' || c == '!' || c == '?') && !words.isEmpty()) {
+                sentences.add(words.toArray(new String[0]));
+                words.clear();
+            }
+        }
+        return sentences;
+    }
+
+    @Override
+    public List<String> tokens(String[] sentence) {
+        return Arrays.asList(sentence);
+    }
+
+    @Override
+    public SentimentScore score(String[] words) {
+        double[] valences = new double[words.length];
+        int contrast = -1;
+
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].equals("but")) {
+                contrast = i;
+            }
+
+            int start = i;
+            Double valence = null;
+            if (i + 1 < words.length) {
+                valence = lexicon.get(words[i] + " " + words[i + 1]);
+            }
+            if (valence != null) {
+                // The phrase replaces the valences of its two words
+                i++;
+            } else {
+                valence = lexicon.get(words[i]);
+            }
+            if (valence == null) {
+                continue;
+            }
+
+            double value = valence;
+            if (start > 0 && BOOSTERS.contains(words[start - 1])) {
+                value *= BOOSTER_SCALAR;
+            } else if (start > 0 && DAMPENERS.contains(words[start - 1])) {
+                value *= DAMPENER_SCALAR;
+            }
+            for (int j = Math.max(0, start - 3); j < start; j++) {
+                if (NEGATIONS.contains(words[j]) || words[j].endsWith("n't")) {
+                    value *= NEGATION_SCALAR;
+                    break;
+                }
+            }
+            valences[start] = value;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < valences.length; i++) {
+            // What follows "but" usually carries the writer's actual feeling
+            double weight = contrast < 0 ? 1 : i < contrast ? 0.5 : 1.5;
+            sum += valences[i] * weight;
+        }
+
+        double compound = sum / Math.sqrt(sum * sum + NORMALIZATION_ALPHA);
+        return toScore(compound);
+    }
+
+    @Override
+    public boolean isExpensive() {
+        return false;
+    }
+
+    // Centres a narrow distribution on the compound value's position along the five classes
+    private static SentimentScore toScore(double compound) {
+        double center = (compound + 1) * 2;
+        double[] probabilities = new double[5];
+        double total = 0;
+        int predicted = SentimentScore.NEUTRAL;
+        for (int k = 0; k < probabilities.length; k++) {
+            double distance = k - center;
+            probabilities[k] = Math.exp(-(distance * distance) / (2 * CLASS_SPREAD * CLASS_SPREAD));
+            total += probabilities[k];
+            if (probabilities[k] > probabilities[predicted]) {
+                predicted = k;
+            }
+        }
+        for (int k = 0; k < probabilities.length; k++) {
+            probabilities[k] /= total;
+        }
+        return new SentimentScore(predicted, probabilities);
+    }
+
+    private void add(double valence, String... words) {
+        for (String word : words) {
+            lexicon.put(word, valence);
+        }
+    }
+
+    private void addDefaults() {
+        add(3.2, "wonderful", "amazing", "fantastic", "excellent", "awesome", "thrilled", "ecstatic", "overjoyed",
+                "outstanding", "brilliant", "delighted", "blissful", "joyful", "perfect");
+        add(2.8, "love", "loved", "loving", "happy", "happier", "happiest", "great", "grateful", "thankful",
+                "excited", "proud", "beautiful", "best", "joy", "cheerful", "elated", "inspired", "lovely");
+        add(2.2, "good", "glad", "nice", "calm", "relaxed", "peaceful", "hopeful", "confident", "enjoy", "enjoyed",
+                "fun", "pleased", "content", "optimistic", "motivated", "energized", "relieved", "safe", "supported",
+                "strong", "better", "fine", "productive", "rested", "accomplished", "smile", "smiled", "laugh",
+                "laughed", "friendly", "comfortable", "encouraged", "appreciated", "success", "win", "won");
+        add(1.3, "okay", "ok", "alright", "progress", "improving", "improved", "steady", "manageable", "interesting",
+                "helpful", "healed", "coping", "balanced");
+        add(-1.3, "tired", "bored", "meh", "uneasy", "unsure", "confused", "distracted", "restless", "busy",
+                "annoyed", "tense", "worried", "nervous", "pressure", "hard", "difficult", "struggle", "struggling");
+        add(-2.2, "sad", "unhappy", "upset", "stressed", "anxious", "anxiety", "lonely", "alone", "hurt", "angry",
+                "mad", "frustrated", "disappointed", "afraid", "scared", "fear", "bad", "worse", "cry", "cried",
+                "crying", "exhausted", "overwhelmed", "guilty", "ashamed", "insecure", "sick", "pain", "failed",
+                "failure", "lost", "empty", "irritated", "regret", "jealous", "rejected", "ignored", "drained");
+        add(-2.8, "hate", "hated", "terrible", "awful", "horrible", "miserable", "depressed", "depression",
+                "hopeless", "worthless", "helpless", "panic", "furious", "heartbroken", "devastated", "broken",
+                "grief", "grieving", "agony", "dread", "numb");
+        add(-3.4, "worst", "suicidal", "unbearable", "despair", "despise", "disgusted", "tragic", "nightmare",
+                "trauma", "traumatized");
+
+        add(2.2, "feel good", "feeling good", "doing well", "good day", "great day", "well rested", "looking forward");
+        add(-2.2, "feel bad", "feeling bad", "bad day", "fed up", "burned out", "burnt out", "stressed out",
+                "freaked out", "breaking down", "can't cope");
+        add(-2.8, "give up", "giving up", "no hope", "falling apart", "panic attack", "self harm");
+    }
+}
@@ -0,0 +1,152 @@
+package utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Which of today's activities a user has not done yet.
+ * <p>
+ * All three activities are checked with one {@code EXISTS ... UNION ALL} query, and the answer is
+ * kept per user until the day changes or a save path calls {@link #invalidate(String)}.
+ * <p>
+ * Views that display the state register a {@link Listener} and call {@link #refresh(String)}; the
+ * query then runs through {@link DataAccess} and listeners are notified on the EDT, so painting
+ * never has to wait on MySQL. Invalidating a user refreshes their state for any registered listener.
+ */
+public class PendingActivities {
+
+    public static final String DAILY_ASSESSMENT = "Daily Assessment";
+    public static final String MOOD_CHECK = "Mood & Stress Check";
+    public static final String DAILY_JOURNAL = "Daily Journal";
+
+    private static final String[] ACTIVITIES = {DAILY_ASSESSMENT, MOOD_CHECK, DAILY_JOURNAL};
+
+    private static final String QUERY =
+            "SELECT 0, EXISTS (SELECT 1 FROM user_assessment_responses " +
+                    "WHERE username = ? AND response_time >= ? AND response_time < ?) " +
+            "UNION ALL SELECT 1, EXISTS (SELECT 1 FROM mood_logs " +
+                    "WHERE username = ? AND log_time >= ? AND log_time < ?) " +
+            "UNION ALL SELECT 2, EXISTS (SELECT 1 FROM journal_entries " +
+                    "WHERE username = ? AND entry_date >= ? AND entry_date < ?)";
+
+    // Both guarded by the class lock, which is never held during a query
+    private static final Map<String, Entry> entries = new HashMap<>();
+    private static long invalidations;
+    private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @FunctionalInterface
+    public interface Listener {
+        void pendingChanged(String username, List<String> pending);
+    }
+
+    private PendingActivities() {
+
+    }
+
+    /**
+     * Returns the names of the activities {@code username} has not completed today, in the order
+     * they are shown to the user.
+     */
+    public static List<String> get(String username) throws SQLException {
+        LocalDate today = LocalDate.now();
+        long seen;
+        synchronized (PendingActivities.class) {
+            Entry entry = entries.get(username);
+            if (entry != null && today.equals(entry.day)) {
+                return entry.pending;
+            }
+            seen = invalidations;
+        }
+
+        List<String> pending = load(username, today);
+        synchronized (PendingActivities.class) {
+            // A save invalidated while this query ran, so its answer may be stale; don't cache it
+            if (invalidations == seen) {
+                entries.put(username, new Entry(today, pending));
+            }
+        }
+        return pending;
+    }
+
+    public static void invalidate(String username) {
+        synchronized (PendingActivities.class) {
+            entries.remove(username);
+            invalidations++;
+        }
+        if (!listeners.isEmpty()) {
+            refresh(username);
+        }
+    }
+
+    /**
+     * Loads the state of {@code username} in the background, from the cache when it is still
+     * current, and passes it to the listeners on the EDT.
+     */
+    public static void refresh(String username) {
+        DataAccess.supply(() -> get(username)).whenComplete((pending, failure) -> {
+            if (failure != null) {
+                DataAccess.unwrap(failure).printStackTrace();
+                return;
+            }
+            for (Listener listener : listeners) {
+                listener.pendingChanged(username, pending);
+            }
+        });
+    }
+
+    public static void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private static List<String> load(String username, LocalDate day) throws SQLException {
+        Timestamp start = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+
+        boolean[] done = new boolean[ACTIVITIES.length];
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(QUERY)) {
+            for (int i = 0; i < ACTIVITIES.length; i++) {
+                stmt.setString(i * 3 + 1, username);
+                stmt.setTimestamp(i * 3 + 2, start);
+                stmt.setTimestamp(i * 3 + 3, end);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    done[rs.getInt(1)] = rs.getBoolean(2);
+                }
+            }
+        }
+
+        List<String> pending = new ArrayList<>();
+        for (int i = 0; i < ACTIVITIES.length; i++) {
+            if (!done[i]) {
+                pending.add(ACTIVITIES[i]);
+            }
+        }
+        return Collections.unmodifiableList(pending);
+    }
+
+    private static class Entry {
+        private final LocalDate day;
+        private final List<String> pending;
+
+        private Entry(LocalDate day, List<String> pending) {
+            this.day = day;
+            this.pending = pending;
+        }
+    }
+}
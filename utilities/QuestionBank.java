@@ -0,0 +1,174 @@
+package utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory copy of {@code assessment_questions} that picks a user's daily questions.
+ * <p>
+ * Ids and texts are held in parallel arrays. Before each draw a cheap {@code COUNT(*)/MAX(id)} probe,
+ * as in {@link ResourceIndex}, is compared with the one the bank was loaded with, and the bank is
+ * loaded again when questions have been added or removed. Questions already asked to the user
+ * today are marked in a {@link BitSet}, and the remaining ones are drawn with a Fisher-Yates shuffle
+ * that stops after {@code count} picks. Swapped slots are tracked in a small map instead of a copy
+ * of the whole bank, so a draw costs O(count + asked) rather than sorting every question.
+ */
+public class QuestionBank {
+
+    private static final String VERSION_QUERY =
+            "SELECT COUNT(*), COALESCE(MAX(id), 0) FROM assessment_questions";
+
+    private static volatile Bank bank;
+
+    private QuestionBank() {
+
+    }
+
+    /**
+     * Returns up to {@code count} random question ids that {@code username} has not been asked today.
+     */
+    public static int[] sample(String username, int count) throws SQLException {
+        Bank current = getCurrentBank();
+        BitSet asked = getAskedToday(current, username);
+
+        int remaining = current.ids.length;
+        Map<Integer, Integer> swapped = new HashMap<>();
+        int[] picked = new int[Math.min(count, remaining - asked.cardinality())];
+        int found = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Draws slots from the shrinking range [0, remaining) and moves the last slot into the hole
+        while (found < picked.length && remaining > 0) {
+            int slot = random.nextInt(remaining);
+            int position = swapped.getOrDefault(slot, slot);
+            remaining--;
+            swapped.put(slot, swapped.getOrDefault(remaining, remaining));
+            if (!asked.get(position)) {
+                picked[found++] = current.ids[position];
+            }
+        }
+        return found == picked.length ? picked : Arrays.copyOf(picked, found);
+    }
+
+    /**
+     * Number of questions {@code username} has not been asked today.
+     */
+    public static int countAvailable(String username) throws SQLException {
+        Bank current = getCurrentBank();
+        return current.ids.length - getAskedToday(current, username).cardinality();
+    }
+
+    public static String getText(int id) throws SQLException {
+        Bank current = getBank();
+        int position = current.positionOf(id);
+        return position < 0 ? null : current.texts[position];
+    }
+
+    private static Bank getBank() throws SQLException {
+        Bank current = bank;
+        if (current == null) {
+            synchronized (QuestionBank.class) {
+                current = bank;
+                if (current == null) {
+                    current = load();
+                    bank = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Loads the bank again when the probe no longer matches the one it was loaded with
+    private static Bank getCurrentBank() throws SQLException {
+        Bank current = getBank();
+        String version;
+        try (Connection conn = Database.getConnection()) {
+            version = probe(conn);
+        }
+        if (version.equals(current.version)) {
+            return current;
+        }
+        synchronized (QuestionBank.class) {
+            if (bank == current) {
+                bank = null;
+            }
+        }
+        return getBank();
+    }
+
+    // Reads the version and the rows in one transaction so the version describes exactly these rows
+    private static Bank load() throws SQLException {
+        return Database.inTransaction(conn -> {
+            String version = probe(conn);
+            List<Integer> ids = new ArrayList<>();
+            List<String> texts = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(
+                         "SELECT id, question_text FROM assessment_questions ORDER BY id");
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt("id"));
+                    texts.add(rs.getString("question_text"));
+                }
+            }
+
+            int[] idArray = new int[ids.size()];
+            for (int i = 0; i < idArray.length; i++) {
+                idArray[i] = ids.get(i);
+            }
+            return new Bank(idArray, texts.toArray(new String[0]), version);
+        });
+    }
+
+    private static String probe(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(VERSION_QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getLong(1) + "/" + rs.getLong(2);
+        }
+    }
+
+    private static BitSet getAskedToday(Bank current, String username) throws SQLException {
+        BitSet asked = new BitSet(current.ids.length);
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT question_id FROM user_asked_questions WHERE username = ? AND asked_date = CURDATE()")) {
+            stmt.setString(1, username);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int position = current.positionOf(rs.getInt(1));
+                    if (position >= 0) {
+                        asked.set(position);
+                    }
+                }
+            }
+        }
+        return asked;
+    }
+
+    private static class Bank {
+        private final int[] ids;
+        private final String[] texts;
+        private final String version;
+
+        private Bank(int[] ids, String[] texts, String version) {
+            this.ids = ids;
+            this.texts = texts;
+            this.version = version;
+        }
+
+        // ids are loaded in ascending order
+        private int positionOf(int id) {
+            int position = Arrays.binarySearch(ids, id);
+            return position >= 0 ? position : -1;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small LRU cache of resource keywords and content, loaded by id when a resource is opened.
+ * <p>
+ * Search results only carry ids and titles, so article bodies are read one at a time and only for
+ * the resources the user actually looks at.
+ */
+public class ResourceBodies {
+
+    private static final int CAPACITY = 32;
+
+    private static final LinkedHashMap<Integer, Body> bodies = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Body> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    public static class Body {
+        private final String keywords;
+        private final String content;
+
+        public Body(String keywords, String content) {
+            this.keywords = keywords;
+            this.content = content;
+        }
+
+        public String getKeywords() { return keywords; }
+        public String getContent() { return content; }
+    }
+
+    private ResourceBodies() {
+
+    }
+
+    public static synchronized Body getCached(int id) {
+        return bodies.get(id);
+    }
+
+    /**
+     * Returns the body of resource {@code id}, reading it from MySQL on a cache miss, or
+     * {@code null} if the resource no longer exists.
+     */
+    public static Body load(int id) throws SQLException {
+        Body body = getCached(id);
+        if (body != null) {
+            return body;
+        }
+
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT keywords, content FROM resources WHERE id = ?")) {
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                body = new Body(rs.getString("keywords"), rs.getString("content"));
+            }
+        }
+
+        synchronized (ResourceBodies.class) {
+            bodies.put(id, body);
+        }
+        return body;
+    }
+
+    // Called when the resources table has changed
+    public static synchronized void clear() {
+        bodies.clear();
+    }
+}
@@ -0,0 +1,277 @@
+package utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory inverted index over the {@code resources} table, ranked with BM25F.
+ * <p>
+ * Titles, keywords and content are split into lower-case words, and each word maps to the
+ * resources containing it together with a field-weighted term frequency. The frequency is
+ * normalized by each field's length against the average when the index is built, so a query only
+ * adds up precomputed weights. Words are kept in a {@link TreeMap}, so a query word matches every
+ * indexed word it is a prefix of; a resource matches when it contains all query words. The best
+ * {@code limit} matches are kept in a bounded heap rather than sorting every match. Only ids and
+ * titles are kept once the words have been indexed.
+ * <p>
+ * An index is immutable. {@link #warmUp()} builds the first one in the background when the
+ * application starts, and {@link #refreshIfChanged()} compares a cheap version probe of the table
+ * with the one the index was built from and rebuilds only when they differ. Searching never touches
+ * MySQL.
+ */
+public class ResourceIndex implements ResourceSearch {
+
+    // COUNT and MAX(id) change on inserts and deletes, and updated_at is stamped by every row update
+    private static final String VERSION_QUERY =
+            "SELECT COUNT(*), COALESCE(MAX(id), 0), MAX(updated_at) FROM resources";
+
+    // BM25F parameters for title, keywords and content
+    private static final double K1 = 1.2;
+    private static final double[] FIELD_WEIGHTS = {3.0, 2.0, 1.0};
+    private static final double[] FIELD_B = {0.5, 0.5, 0.75};
+    private static final int FIELDS = FIELD_WEIGHTS.length;
+
+    private static CompletableFuture<ResourceIndex> current;
+
+    private final List<Resource> resources;
+    private final TreeMap<String, Posting> postings;
+    private final String version;
+
+    // Only what the result list shows; keywords and content are loaded through ResourceBodies
+    public static class Resource {
+        private final int id;
+        private final String title;
+
+        public Resource(int id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+
+        public int getId() { return id; }
+        public String getTitle() { return title; }
+    }
+
+    // Resources containing a word, ascending, with the word's weighted frequency in each
+    private static class Posting {
+        private final int[] positions;
+        private final float[] frequencies;
+
+        private Posting(int[] positions, float[] frequencies) {
+            this.positions = positions;
+            this.frequencies = frequencies;
+        }
+    }
+
+    private ResourceIndex(List<Resource> resources, TreeMap<String, Posting> postings, String version) {
+        this.resources = resources;
+        this.postings = postings;
+        this.version = version;
+    }
+
+    /**
+     * Starts building the index if it has not been built yet, or if the last build failed. The
+     * returned future completes on the EDT.
+     */
+    public static synchronized CompletableFuture<ResourceIndex> warmUp() {
+        if (current == null || current.isCompletedExceptionally()) {
+            current = DataAccess.supply(ResourceIndex::build);
+        }
+        return current;
+    }
+
+    /**
+     * Returns the current index, rebuilt first if the {@code resources} table changed since it was
+     * built. The returned future completes on the EDT.
+     */
+    public static CompletableFuture<ResourceIndex> refreshIfChanged() {
+        CompletableFuture<ResourceIndex> built = warmUp();
+        if (!built.isDone()) {
+            return built;
+        }
+
+        ResourceIndex index = built.join();
+        return DataAccess.supply(() -> {
+            String version = Database.inTransaction(ResourceIndex::probe);
+            if (version.equals(index.version)) {
+                return index;
+            }
+            ResourceIndex rebuilt = build();
+            synchronized (ResourceIndex.class) {
+                current = CompletableFuture.completedFuture(rebuilt);
+            }
+            ResourceBodies.clear();
+            return rebuilt;
+        });
+    }
+
+    /**
+     * The {@code limit} best resources containing every word of {@code query}, each word matching
+     * as a prefix, best first. An empty query returns the first resources in title order.
+     */
+    @Override
+    public List<Resource> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return resources.subList(0, Math.min(limit, resources.size()));
+        }
+
+        int count = resources.size();
+        BitSet matches = null;
+        float[][] termFrequencies = new float[terms.size()][];
+        double[] idfs = new double[terms.size()];
+
+        for (int t = 0; t < terms.size(); t++) {
+            String term = terms.get(t);
+            BitSet termMatches = new BitSet(count);
+            float[] frequencies = new float[count];
+            for (Posting posting : postings.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+                for (int i = 0; i < posting.positions.length; i++) {
+                    termMatches.set(posting.positions[i]);
+                    frequencies[posting.positions[i]] += posting.frequencies[i];
+                }
+            }
+
+            int documentFrequency = termMatches.cardinality();
+            termFrequencies[t] = frequencies;
+            idfs[t] = Math.log(1 + (count - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            if (matches == null) {
+                matches = termMatches;
+            } else {
+                matches.and(termMatches);
+            }
+            if (matches.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        // Min-heap of the best hits so far; ties go to the earlier title
+        PriorityQueue<double[]> best = new PriorityQueue<>(limit + 1, (a, b) ->
+                a[0] != b[0] ? Double.compare(a[0], b[0]) : Double.compare(b[1], a[1]));
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            double score = 0;
+            for (int t = 0; t < termFrequencies.length; t++) {
+                float frequency = termFrequencies[t][position];
+                score += idfs[t] * frequency / (K1 + frequency);
+            }
+            best.add(new double[]{score, position});
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        Resource[] ranked = new Resource[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = resources.get((int) best.poll()[1]);
+        }
+        return Arrays.asList(ranked);
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // Reads the version and the rows in one transaction so the version describes exactly these rows
+    private static ResourceIndex build() throws SQLException {
+        return Database.inTransaction(conn -> {
+            String version = probe(conn);
+
+            List<Resource> resources = new ArrayList<>();
+            List<int[]> fieldLengths = new ArrayList<>();
+            Map<String, List<int[]>> occurrences = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT id, title, keywords, content FROM resources ORDER BY title, id");
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int position = resources.size();
+                    resources.add(new Resource(rs.getInt("id"), rs.getString("title")));
+
+                    // Per word: position followed by its count in each field
+                    Map<String, int[]> counts = new HashMap<>();
+                    int[] lengths = new int[FIELDS];
+                    String[] fields = {rs.getString("title"), rs.getString("keywords"), rs.getString("content")};
+                    for (int f = 0; f < FIELDS; f++) {
+                        for (String word : tokenize(fields[f])) {
+                            counts.computeIfAbsent(word, w -> new int[]{position, 0, 0, 0})[1 + f]++;
+                            lengths[f]++;
+                        }
+                    }
+                    fieldLengths.add(lengths);
+                    for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+                        occurrences.computeIfAbsent(entry.getKey(), w -> new ArrayList<>()).add(entry.getValue());
+                    }
+                }
+            }
+
+            double[] averageLengths = new double[FIELDS];
+            for (int[] lengths : fieldLengths) {
+                for (int f = 0; f < FIELDS; f++) {
+                    averageLengths[f] += lengths[f];
+                }
+            }
+            for (int f = 0; f < FIELDS; f++) {
+                averageLengths[f] = Math.max(1, averageLengths[f] / Math.max(1, fieldLengths.size()));
+            }
+
+            TreeMap<String, Posting> postings = new TreeMap<>();
+            for (Map.Entry<String, List<int[]>> entry : occurrences.entrySet()) {
+                List<int[]> list = entry.getValue();
+                int[] positions = new int[list.size()];
+                float[] frequencies = new float[list.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    int[] occurrence = list.get(i);
+                    positions[i] = occurrence[0];
+                    int[] lengths = fieldLengths.get(occurrence[0]);
+                    double frequency = 0;
+                    for (int f = 0; f < FIELDS; f++) {
+                        double norm = 1 - FIELD_B[f] + FIELD_B[f] * lengths[f] / averageLengths[f];
+                        frequency += FIELD_WEIGHTS[f] * occurrence[1 + f] / norm;
+                    }
+                    frequencies[i] = (float) frequency;
+                }
+                postings.put(entry.getKey(), new Posting(positions, frequencies));
+            }
+            return new ResourceIndex(Collections.unmodifiableList(resources), postings, version);
+        });
+    }
+
+    private static String probe(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(VERSION_QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getLong(1) + "/" + rs.getLong(2) + "/" + rs.getString(3);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package utilities;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ranked search over the {@code resources} table.
+ * <p>
+ * The backend is chosen with {@code -Dresources.search}: {@code index} (the default) scores
+ * matches with BM25F over the in-process {@link ResourceIndex}, and {@code fulltext} asks MySQL's
+ * {@code FULLTEXT} index with {@code MATCH ... AGAINST}. Both return the best {@code limit} hits,
+ * best first, and list the first {@code limit} resources in title order for an empty query. Callers
+ * page further by asking again with a larger {@code limit}.
+ */
+public interface ResourceSearch {
+
+    String BACKEND = System.getProperty("resources.search", "index");
+
+    /**
+     * Called off the EDT.
+     */
+    List<ResourceIndex.Resource> search(String query, int limit) throws SQLException;
+
+    static boolean usesFullText() {
+        return BACKEND.equalsIgnoreCase("fulltext");
+    }
+
+    /**
+     * Starts loading the configured backend when the application starts.
+     */
+    static void warmUp() {
+        if (!usesFullText()) {
+            ResourceIndex.warmUp();
+        }
+    }
+
+    /**
+     * Returns the configured backend once it is ready to search, on the EDT.
+     */
+    static CompletableFuture<ResourceSearch> open() {
+        if (usesFullText()) {
+            return CompletableFuture.completedFuture(new FullTextResourceSearch());
+        }
+        return ResourceIndex.refreshIfChanged().thenApply(index -> index);
+    }
+}
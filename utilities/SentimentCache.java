@@ -0,0 +1,152 @@
+package utilities;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache from a sentence's content hash to its {@link SentimentScore}.
+ * <p>
+ * Sentences are keyed by a SHA-256 of their tokens joined with single spaces, so re-saving an edited
+ * entry only parses the sentences that actually changed. The cache can be saved to and loaded from
+ * a local file; only hashes and scores are written, never the sentence text. The file records the
+ * engine and model version that produced the scores and is ignored when either differs.
+ */
+public class SentimentCache {
+
+    private static final int FILE_VERSION = 2;
+
+    private final int capacity;
+    private final LinkedHashMap<String, SentimentScore> scores;
+    private long hits;
+    private long misses;
+
+    public SentimentCache(int capacity) {
+        this.capacity = capacity;
+        this.scores = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SentimentScore> eldest) {
+                return size() > SentimentCache.this.capacity;
+            }
+        };
+    }
+
+    public static String key(Iterable<String> tokens) {
+        StringBuilder normalized = new StringBuilder();
+        for (String token : tokens) {
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(token);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().withoutPadding()
+                    .encodeToString(digest.digest(normalized.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public synchronized SentimentScore get(String key) {
+        SentimentScore score = scores.get(key);
+        if (score != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return score;
+    }
+
+    public synchronized void put(String key, SentimentScore score) {
+        scores.put(key, score);
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Loads entries saved by {@link #save(File, String)} for the same {@code engine}. A missing,
+     * unreadable or outdated file, or one written by another engine, leaves the cache as it was.
+     */
+    public void load(File file, String engine) {
+        if (!file.isFile()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FILE_VERSION) {
+                return;
+            }
+            String savedEngine = in.readUTF();
+            if (!savedEngine.equals(engine)) {
+                System.err.println("Ignoring sentiment cache file " + file + ": written by " + savedEngine + ", not " + engine);
+                return;
+            }
+            int count = in.readInt();
+            Map<String, SentimentScore> loaded = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                int predictedClass = in.readByte();
+                double[] probabilities = new double[5];
+                for (int j = 0; j < probabilities.length; j++) {
+                    probabilities[j] = in.readDouble();
+                }
+                loaded.put(key, new SentimentScore(predictedClass, probabilities));
+            }
+            synchronized (this) {
+                // Entries scored since startup are newer than anything on disk
+                Map<String, SentimentScore> current = new LinkedHashMap<>(scores);
+                scores.clear();
+                scores.putAll(loaded);
+                scores.putAll(current);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring sentiment cache file " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Writes the cache to {@code file}, least recently used entries first so that a reload keeps the
+     * same eviction order. {@code engine} identifies the engine and model that produced the scores.
+     */
+    public void save(File file, String engine) {
+        Map<String, SentimentScore> snapshot;
+        synchronized (this) {
+            snapshot = new LinkedHashMap<>(scores);
+        }
+
+        File temp = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(FILE_VERSION);
+            out.writeUTF(engine);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, SentimentScore> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeByte(entry.getValue().getPredictedClass());
+                for (int j = 0; j < 5; j++) {
+                    out.writeDouble(entry.getValue().getProbability(j));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save sentiment cache to " + file + ": " + e);
+            return;
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Could not save sentiment cache to " + file + ": " + e);
+        }
+    }
+}
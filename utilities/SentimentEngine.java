@@ -0,0 +1,39 @@
+package utilities;
+
+import java.util.List;
+
+/**
+ * Scores the sentiment of text one sentence at a time on the five-class scale used throughout the
+ * app, from {@link SentimentScore#VERY_NEGATIVE} to {@link SentimentScore#VERY_POSITIVE}.
+ * <p>
+ * {@link SentimentService} picks the implementation from {@code -Dsentiment.engine}: {@code corenlp}
+ * (the default) runs the Stanford RNN model, {@code lexicon} runs {@link LexiconSentimentEngine}.
+ *
+ * @param <S> the engine's representation of a split sentence
+ */
+public interface SentimentEngine<S> {
+
+    String getName();
+
+    /**
+     * Identifies the model or word list in use, so scores saved under one version are not reused by
+     * another. Available before {@link #load()}.
+     */
+    String getVersion();
+
+    /**
+     * Loads models or word lists. Called once, on a background thread, before any other method.
+     */
+    void load() throws Exception;
+
+    List<S> split(String text);
+
+    List<String> tokens(S sentence);
+
+    SentimentScore score(S sentence);
+
+    /**
+     * Whether scoring a sentence is costly enough to be worth memoizing and running in parallel.
+     */
+    boolean isExpensive();
+}
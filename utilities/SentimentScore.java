@@ -0,0 +1,33 @@
+package utilities;
+
+/**
+ * Sentiment of a single sentence: the predicted class and the model's probability for each of the
+ * five classes, indexed from {@link #VERY_NEGATIVE} to {@link #VERY_POSITIVE}.
+ */
+public class SentimentScore {
+
+    public static final int VERY_NEGATIVE = 0;
+    public static final int NEGATIVE = 1;
+    public static final int NEUTRAL = 2;
+    public static final int POSITIVE = 3;
+    public static final int VERY_POSITIVE = 4;
+
+    private final int predictedClass;
+    private final double[] probabilities;
+
+    public SentimentScore(int predictedClass, double[] probabilities) {
+        if (probabilities.length != 5) {
+            throw new IllegalArgumentException("Expected 5 class probabilities, got " + probabilities.length);
+        }
+        this.predictedClass = predictedClass;
+        this.probabilities = probabilities.clone();
+    }
+
+    public int getPredictedClass() {
+        return predictedClass;
+    }
+
+    public double getProbability(int sentimentClass) {
+        return probabilities[sentimentClass];
+    }
+}
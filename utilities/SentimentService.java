@@ -0,0 +1,253 @@
+package utilities;
+
+import javax.swing.*;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs sentiment analysis with the configured {@link SentimentEngine}.
+ * <p>
+ * Loading the CoreNLP models takes several seconds, so {@link #warmUp()} starts it on a background
+ * thread when the application launches, and {@link #whenReady()} completes once the engine can be
+ * used. {@code -Dsentiment.engine=lexicon} selects the fast word-list engine instead.
+ * <p>
+ * {@link #analyze(String, Function, Progress)} runs jobs on a worker pool with one thread per core
+ * and a bounded queue; when the queue is full the job is rejected instead of piling up. Jobs
+ * submitted while the models are still loading wait on the pool rather than on the caller.
+ * <p>
+ * A job splits its text into sentences and then scores each sentence on its own. For an expensive
+ * engine the sentences are independent after splitting, so long entries are scored
+ * in parallel with fork/join unless {@code -Dsentiment.parallel=false} is set; both modes score
+ * every sentence the same way and return the scores in sentence order.
+ * <p>
+ * Expensive scores are memoized per sentence in a {@link SentimentCache}, so only sentences that have not been
+ * seen before are parsed. Setting {@code -Dsentiment.cache.file=<path>} keeps the cache across
+ * restarts.
+ */
+public class SentimentService {
+
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = WORKERS * 4;
+    private static final boolean PARALLEL = Boolean.parseBoolean(System.getProperty("sentiment.parallel", "true"));
+    private static final int CACHE_SIZE = 10_000;
+    private static final String CACHE_FILE = System.getProperty("sentiment.cache.file");
+
+    public enum Stage {
+        QUEUED, WAITING_FOR_MODELS, ANALYZING, DONE
+    }
+
+    @FunctionalInterface
+    public interface Progress {
+        void update(Stage stage, int sentencesScored, int sentenceCount);
+    }
+
+    private final SentimentEngine<?> engine = createEngine();
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ThreadPoolExecutor workers;
+    private final ForkJoinPool sentencePool = new ForkJoinPool(WORKERS);
+    private final SentimentCache cache = new SentimentCache(CACHE_SIZE);
+
+    private SentimentService() {
+        AtomicInteger count = new AtomicInteger();
+        workers = new ThreadPoolExecutor(WORKERS, WORKERS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "sentiment-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        workers.allowCoreThreadTimeOut(true);
+    }
+
+    private static class Holder {
+        private static final SentimentService INSTANCE = new SentimentService();
+    }
+
+    public static SentimentService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Starts loading the engine if that has not happened yet. Safe to call more than once.
+     */
+    public CompletableFuture<Void> warmUp() {
+        if (started.compareAndSet(false, true)) {
+            Thread loader = new Thread(this::load, "sentiment-warmup");
+            loader.setDaemon(true);
+            loader.setPriority(Thread.MIN_PRIORITY);
+            loader.start();
+        }
+        return whenReady();
+    }
+
+    public CompletableFuture<Void> whenReady() {
+        return ready.thenApply(ignored -> null);
+    }
+
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    /**
+     * Scores every sentence of {@code text} on the worker pool and reduces the scores with
+     * {@code reducer}. Call from the EDT; {@code progress} is notified and the returned future is
+     * completed there too.
+     */
+    public <T> CompletableFuture<T> analyze(String text, Function<List<SentimentScore>, T> reducer, Progress progress) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        warmUp();
+        try {
+            workers.execute(() -> {
+                try {
+                    if (!isReady()) {
+                        SwingUtilities.invokeLater(() -> progress.update(Stage.WAITING_FOR_MODELS, 0, 0));
+                    }
+                    ready.join();
+                    T result = reducer.apply(score(engine, text, progress));
+                    SwingUtilities.invokeLater(() -> future.complete(result));
+                } catch (Throwable t) {
+                    SwingUtilities.invokeLater(() -> future.completeExceptionally(t));
+                }
+            });
+            progress.update(Stage.QUEUED, 0, 0);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new RejectedExecutionException(
+                    "Too many entries are being analyzed right now, please try again in a moment", e));
+        }
+        return future;
+    }
+
+    private <S> List<SentimentScore> score(SentimentEngine<S> engine, String text, Progress progress) {
+        List<S> sentences = engine.split(text);
+        if (sentences.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int total = sentences.size();
+        SentimentScore[] scores = new SentimentScore[total];
+        if (!engine.isExpensive()) {
+            for (int i = 0; i < total; i++) {
+                scores[i] = engine.score(sentences.get(i));
+            }
+            SwingUtilities.invokeLater(() -> progress.update(Stage.DONE, total, total));
+            return Arrays.asList(scores);
+        }
+
+        String[] keys = new String[total];
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            keys[i] = SentimentCache.key(engine.tokens(sentences.get(i)));
+            scores[i] = cache.get(keys[i]);
+            if (scores[i] == null) {
+                pending.add(i);
+            }
+        }
+
+        AtomicInteger scored = new AtomicInteger(total - pending.size());
+        int alreadyScored = scored.get();
+        SwingUtilities.invokeLater(() -> progress.update(Stage.ANALYZING, alreadyScored, total));
+
+        Runnable onScored = () -> {
+            int done = scored.incrementAndGet();
+            SwingUtilities.invokeLater(() -> progress.update(done == total ? Stage.DONE : Stage.ANALYZING, done, total));
+        };
+
+        int[] uncached = pending.stream().mapToInt(Integer::intValue).toArray();
+        if (PARALLEL && uncached.length > 1) {
+            sentencePool.invoke(new ScoreSentences<>(engine, sentences, uncached, scores, 0, uncached.length, onScored));
+        } else {
+            for (int i : uncached) {
+                scores[i] = engine.score(sentences.get(i));
+                onScored.run();
+            }
+        }
+
+        for (int i : uncached) {
+            cache.put(keys[i], scores[i]);
+        }
+        return Arrays.asList(scores);
+    }
+
+    private static class ScoreSentences<S> extends RecursiveAction {
+        private final SentimentEngine<S> engine;
+        private final List<S> sentences;
+        private final int[] indices;
+        private final SentimentScore[] scores;
+        private final int from;
+        private final int to;
+        private final Runnable onScored;
+
+        private ScoreSentences(SentimentEngine<S> engine, List<S> sentences, int[] indices, SentimentScore[] scores,
+                               int from, int to, Runnable onScored) {
+            this.engine = engine;
+            this.sentences = sentences;
+            this.indices = indices;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+            this.onScored = onScored;
+        }
+
+        @Override
+        protected void compute() {
+            // Parsing a single sentence is already far coarser than the cost of forking
+            if (to - from == 1) {
+                int sentence = indices[from];
+                scores[sentence] = engine.score(sentences.get(sentence));
+                onScored.run();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreSentences<>(engine, sentences, indices, scores, from, mid, onScored),
+                    new ScoreSentences<>(engine, sentences, indices, scores, mid, to, onScored));
+        }
+    }
+
+    private static SentimentEngine<?> createEngine() {
+        String name = System.getProperty("sentiment.engine", "corenlp");
+        if (name.equalsIgnoreCase("lexicon")) {
+            return new LexiconSentimentEngine();
+        }
+        if (!name.equalsIgnoreCase("corenlp")) {
+            System.err.println("Unknown sentiment.engine '" + name + "', using corenlp");
+        }
+        return new CoreNlpSentimentEngine();
+    }
+
+    private void load() {
+        try {
+            if (CACHE_FILE != null && engine.isExpensive()) {
+                File cacheFile = new File(CACHE_FILE);
+                String identity = engine.getName() + "/" + engine.getVersion();
+                cache.load(cacheFile, identity);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> cache.save(cacheFile, identity), "sentiment-cache-save"));
+            }
+
+            engine.load();
+            ready.complete(null);
+            System.out.println("SUCCESS! " + engine.getName() + " sentiment engine initialized.");
+
+        } catch (Throwable e) {
+            ready.completeExceptionally(e);
+            String errorMsg = "Initialization failed:\n" +
+                    "Engine: " + engine.getName() + "\n" +
+                    "Error: " + e;
+            SwingUtilities.invokeLater(() ->
+                    JOptionPane.showMessageDialog(null, errorMsg, "Critical Error", JOptionPane.ERROR_MESSAGE));
+            e.printStackTrace();
+        }
+    }
+}
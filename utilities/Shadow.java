@@ -10,8 +10,10 @@ public class Shadow {
 	public static final int offsetLeft = 2;
 	public static final int offsetBottom = 2;
 	public static final int offsetRight = 2;
-	private int pWd, pHt;
-	private double pLv, pRd;
+	// Level is clamped to 2, so the blur radius stays below 2 and its three box passes reach at most 9 pixels
+	private static final int BLUR_REACH = 9;
+	private int pWd, pHt, pStep = -1;
+	private double pRd;
 	private BufferedImage shadowBackground;
 
 	public Shadow() {
@@ -30,7 +32,7 @@ public class Shadow {
 
 		float opacity = (float) ((2 / (1 + Math.exp(-2 * level))) - 1);
 		float radius = (float) ((4 / (1 + Math.exp(-2 * level))) - 2);
-		BufferedImage shadowBlurImage = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
+		BufferedImage shadowBlurImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
 		Graphics2D graphics2D = (Graphics2D) shadowBlurImage.getGraphics();
 
 		graphics2D.setColor(new Color(0f, 0f, 0f, opacity));
@@ -44,14 +46,55 @@ public class Shadow {
 	}
 
 	public BufferedImage render(int width, int height, double radius, double level) {
-		if (pWd != width || pHt != height || pRd != radius || pLv != level) {
-			shadowBackground = Shadow.renderShadow(width, height, level, radius);
+		int step = ShadowAtlas.quantize(level);
+		if (pWd != width || pHt != height || pRd != radius || pStep != step) {
+			shadowBackground = ShadowAtlas.get(width, height, radius, step);
 			pWd = width;
 			pHt = height;
 			pRd = radius;
-			pLv = level;
+			pStep = step;
 		}
 		return shadowBackground;
 	}
 
+	/**
+	 * Paints the shadow as a nine-patch. Away from the corners a shadow row or column is constant, so
+	 * only a patch big enough to hold the corners is rendered and its middle row and column are
+	 * stretched over the rest of the component.
+	 */
+	public void paint(Graphics graphics, int width, int height, double radius, double level) {
+		int corner = Math.max(Math.max(offsetLeft, offsetRight), Math.max(offsetTop, offsetBottom))
+				+ (int) Math.ceil(radius / 2) + BLUR_REACH;
+		int size = 2 * corner + 1;
+		if (width < size || height < size) {
+			graphics.drawImage(render(width, height, radius, level), 0, 0, null);
+			return;
+		}
+
+		BufferedImage patch = ShadowAtlas.get(size, size, radius, ShadowAtlas.quantize(level));
+		for (int row = 0; row < 3; row++) {
+			for (int column = 0; column < 3; column++) {
+				graphics.drawImage(patch,
+						slice(column, corner, width), slice(row, corner, height),
+						slice(column + 1, corner, width), slice(row + 1, corner, height),
+						slice(column, corner, size), slice(row, corner, size),
+						slice(column + 1, corner, size), slice(row + 1, corner, size), null);
+			}
+		}
+	}
+
+	// Boundaries of the three slices along one axis: the two corners and the stretched middle
+	private static int slice(int index, int corner, int length) {
+		switch (index) {
+			case 0:
+				return 0;
+			case 1:
+				return corner;
+			case 2:
+				return length - corner;
+			default:
+				return length;
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package utilities;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shadow textures shared by every {@link Shadow}.
+ * <p>
+ * Levels are rounded to {@link #LEVEL_STEPS} steps per unit, so an elevation animation passes through
+ * a fixed set of textures that are rendered once and then only drawn. Textures are evicted least
+ * recently used first once they hold more than {@link #PIXEL_BUDGET} pixels. Lookups reuse a single
+ * probe key, so a hit allocates nothing.
+ */
+public class ShadowAtlas {
+
+	public static final int LEVEL_STEPS = 32;
+	// About 16 MB of 4 byte pixels
+	private static final long PIXEL_BUDGET = 4L * 1024 * 1024;
+
+	private static final Map<Key, BufferedImage> textures = new LinkedHashMap<>(64, 0.75f, true);
+	private static final Key probe = new Key();
+	private static long pixels;
+
+	private ShadowAtlas() {
+
+	}
+
+	public static int quantize(double level) {
+		return (int) Math.round(Math.max(0, Math.min(2, level)) * LEVEL_STEPS);
+	}
+
+	/**
+	 * Returns the shadow for the quantized {@code step}, rendering it on the first request.
+	 */
+	public static synchronized BufferedImage get(int width, int height, double borderRadius, int step) {
+		probe.set(width, height, borderRadius, step);
+		BufferedImage texture = textures.get(probe);
+		if (texture == null) {
+			texture = Shadow.renderShadow(width, height, (double) step / LEVEL_STEPS, borderRadius);
+			Key key = new Key();
+			key.set(width, height, borderRadius, step);
+			textures.put(key, texture);
+			pixels += (long) width * height;
+			evict();
+		}
+		return texture;
+	}
+
+	public static synchronized void clear() {
+		textures.clear();
+		pixels = 0;
+	}
+
+	// Keeps the newest texture even when it alone is over the budget
+	private static void evict() {
+		Iterator<Map.Entry<Key, BufferedImage>> iterator = textures.entrySet().iterator();
+		while (pixels > PIXEL_BUDGET && textures.size() > 1) {
+			BufferedImage eldest = iterator.next().getValue();
+			pixels -= (long) eldest.getWidth() * eldest.getHeight();
+			iterator.remove();
+		}
+	}
+
+	private static class Key {
+		private int width, height, step;
+		private double borderRadius;
+
+		private void set(int width, int height, double borderRadius, int step) {
+			this.width = width;
+			this.height = height;
+			this.borderRadius = borderRadius;
+			this.step = step;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return width == other.width && height == other.height && step == other.step
+					&& Double.compare(borderRadius, other.borderRadius) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = width;
+			hash = 31 * hash + height;
+			hash = 31 * hash + step;
+			hash = 31 * hash + Double.hashCode(borderRadius);
+			return hash;
+		}
+	}
+
+}
@@ -0,0 +1,154 @@
+package utilities;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of prepared statements for one physical connection, keyed by SQL text.
+ * <p>
+ * Closing a statement handed out by the cache only clears its parameters and makes it available
+ * to the next caller preparing the same SQL, so the fixed queries issued by the frames are parsed
+ * once per connection instead of on every call. This is the only statement cache; the driver's own
+ * {@code cachePrepStmts} cache is left off so statements are not held twice.
+ */
+public class StatementCache {
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private final int capacity;
+    private final LinkedHashMap<String, Entry> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    public StatementCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns a cached statement for {@code sql}, preparing it on {@code physical} on a miss.
+     * {@code logical} is what the statement and its result sets report as their connection. Returns
+     * {@code null} when the cached statement for {@code sql} is still in use, so the caller prepares
+     * an uncached one for the overlap.
+     */
+    public synchronized PreparedStatement prepare(Connection physical, Connection logical, String sql) throws SQLException {
+        Entry entry = statements.get(sql);
+        if (entry != null && !entry.inUse) {
+            hits.incrementAndGet();
+            return entry.lease(logical);
+        }
+
+        misses.incrementAndGet();
+        if (entry != null) {
+            return null;
+        }
+
+        entry = new Entry(physical.prepareStatement(sql));
+        statements.put(sql, entry);
+        evict();
+        return entry.lease(logical);
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Entry>> iterator = statements.entrySet().iterator();
+        while (statements.size() > capacity && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            if (eldest.inUse) {
+                eldest.evicted = true;
+            } else {
+                eldest.close();
+            }
+        }
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.inUse = false;
+        if (entry.evicted) {
+            entry.close();
+        }
+    }
+
+    private class Entry {
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+
+        private Entry(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        private PreparedStatement lease(Connection logical) {
+            inUse = true;
+            boolean[] returned = {false};
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                if (!returned[0]) {
+                                    returned[0] = true;
+                                    recycle();
+                                }
+                                return null;
+                            case "isClosed":
+                                return returned[0] || statement.isClosed();
+                            case "getConnection":
+                                return logical;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                if (returned[0]) {
+                                    throw new SQLException("Statement has already been closed");
+                                }
+                                try {
+                                    return ConnectionPool.results(method.invoke(statement, args), (PreparedStatement) proxy);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                        }
+                    });
+        }
+
+        // Leave the statement as a fresh prepare would, then make it available again
+        private void recycle() {
+            try {
+                ResultSet rs = statement.getResultSet();
+                if (rs != null) {
+                    rs.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.clearWarnings();
+            } catch (SQLException e) {
+                evicted = true;
+            }
+            release(this);
+        }
+
+        private void close() {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package utilities;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Column passes of {@link Blur} on the incubating Vector API.
+ * <p>
+ * Neighbouring columns are neighbouring ints in a row, so each vector holds one pixel of several
+ * columns. Channels are summed in pairs, red with blue and alpha with green, in the two 16-bit halves
+ * of an int; a box of up to {@link #MAX_BOX} pixels never carries from one half into the other. The
+ * running sums of every column are kept in a small per-thread array and the image is swept row by
+ * row, adding the row entering each window and subtracting the one leaving it, so memory is read in
+ * order instead of one column at a time. Averages use an int fixed-point reciprocal that rounds
+ * exactly like the scalar path. Blur only loads this class when the {@code jdk.incubator.vector}
+ * module is present, and {@code VectorBlurTest} checks it against the scalar path.
+ */
+class VectorBlur implements Blur.ColumnBlur {
+
+	static final int MAX_BOX = 181;
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+	private static final int PAIR_MASK = 0x00FF00FF;
+	private static final int SHIFT = 23;
+
+	private static final ThreadLocal<int[]> sums = new ThreadLocal<>();
+
+	@Override
+	public int blurColumns(int[] source, int[] target, int from, int to, int width, int height, int radius) {
+
+		int box = 2 * radius + 1;
+		int columns = (to - from) / SPECIES.length() * SPECIES.length();
+		if (box > MAX_BOX || height <= 2 * radius || columns == 0) {
+			return from;
+		}
+		int scale = ((1 << SHIFT) + box / 2) / box;
+		int end = from + columns;
+
+		// Red and blue sums of each column followed by alpha and green sums
+		int[] sum = scratch(2 * columns);
+		for (int column = from; column < end; column += SPECIES.length()) {
+			IntVector fv = IntVector.fromArray(SPECIES, source, column);
+			IntVector rb = redBlue(fv).mul(radius + 1);
+			IntVector ag = alphaGreen(fv).mul(radius + 1);
+			for (int j = 0; j < radius; j++) {
+				IntVector p = IntVector.fromArray(SPECIES, source, column + j * width);
+				rb = rb.add(redBlue(p));
+				ag = ag.add(alphaGreen(p));
+			}
+			rb.intoArray(sum, column - from);
+			ag.intoArray(sum, columns + column - from);
+		}
+
+		// The window of row i covers rows i - radius to i + radius, clamped to the first and last row
+		for (int i = 0; i < height; i++) {
+			int in = Math.min(i + radius, height - 1) * width;
+			int out = Math.max(i - radius - 1, 0) * width;
+			blurRow(source, target, sum, in, out, i * width, from, end, scale);
+		}
+
+		return end;
+
+	}
+
+	// Kept out of blurColumns so the JIT can inline every vector operation and keep the vectors unboxed
+	private static void blurRow(int[] source, int[] target, int[] sum, int in, int out, int row, int from, int end, int scale) {
+		int columns = end - from;
+		int half = 1 << (SHIFT - 1);
+		for (int column = from; column < end; column += SPECIES.length()) {
+			IntVector p = IntVector.fromArray(SPECIES, source, in + column);
+			IntVector q = IntVector.fromArray(SPECIES, source, out + column);
+			int s = column - from;
+			IntVector rb = IntVector.fromArray(SPECIES, sum, s).add(redBlue(p)).sub(redBlue(q));
+			IntVector ag = IntVector.fromArray(SPECIES, sum, columns + s).add(alphaGreen(p)).sub(alphaGreen(q));
+			rb.intoArray(sum, s);
+			ag.intoArray(sum, columns + s);
+
+			// (sum * scale + half) >>> SHIFT equals round(sum / box) for every sum up to 255 * MAX_BOX
+			IntVector b = rb.and(0xFFFF).mul(scale).add(half).lanewise(VectorOperators.LSHR, SHIFT);
+			IntVector r = rb.lanewise(VectorOperators.LSHR, 16).mul(scale).add(half).lanewise(VectorOperators.LSHR, SHIFT);
+			IntVector g = ag.and(0xFFFF).mul(scale).add(half).lanewise(VectorOperators.LSHR, SHIFT);
+			IntVector a = ag.lanewise(VectorOperators.LSHR, 16).mul(scale).add(half).lanewise(VectorOperators.LSHR, SHIFT);
+			a.lanewise(VectorOperators.LSHL, 8).or(r).lanewise(VectorOperators.LSHL, 8).or(g)
+					.lanewise(VectorOperators.LSHL, 8).or(b).intoArray(target, row + column);
+		}
+	}
+
+	private static IntVector redBlue(IntVector pixels) {
+		return pixels.and(PAIR_MASK);
+	}
+
+	private static IntVector alphaGreen(IntVector pixels) {
+		return pixels.lanewise(VectorOperators.LSHR, 8).and(PAIR_MASK);
+	}
+
+	private static int[] scratch(int length) {
+		int[] buffer = sums.get();
+		if (buffer == null || buffer.length < length) {
+			buffer = new int[length];
+			sums.set(buffer);
+		}
+		return buffer;
+	}
+
+}
@@ -0,0 +1,66 @@
+package utilities;
+
+import java.util.Arrays;
+
+/**
+ * Checks that {@link VectorBlur} blurs columns exactly like the scalar pass in {@link Blur}.
+ * <p>
+ * Noisy images are blurred column by column both ways, with widths that leave a scalar tail, bands
+ * that start and end inside a row, and box sizes up to {@link VectorBlur#MAX_BOX} that fit in a
+ * column, as the scalar pass requires. Run it after compiling {@code vector/src} and this root, with
+ * {@code --add-modules jdk.incubator.vector}; it exits with status 1 on the first difference.
+ */
+public class VectorBlurTest {
+
+	public static void main(String[] args) {
+
+		int[][] sizes = {{83, 47}, {1, 20}, {16, 3}, {257, 130}};
+		int checked = 0;
+
+		for (int[] size : sizes) {
+			int width = size[0];
+			int height = size[1];
+			int[] source = noise(width * height, width * 31 + height);
+
+			for (int radius = 0; 2 * radius + 1 <= Math.min(height, VectorBlur.MAX_BOX); radius = radius < 12 ? radius + 1 : radius * 2 + 1) {
+				check(source, width, height, 0, width, radius);
+				if (width > 8) {
+					check(source, width, height, 3, width - 5, radius);
+				}
+				checked++;
+			}
+		}
+
+		System.out.println("Vector blur matches the scalar blur in " + checked + " cases");
+
+	}
+
+	private static void check(int[] source, int width, int height, int from, int to, int radius) {
+
+		int box = 2 * radius + 1;
+		long scale = ((1L << 32) + box / 2) / box;
+		int[] expected = new int[source.length];
+		int[] actual = new int[source.length];
+
+		Blur.boxBlur(source, expected, from, to, height, 1, width, radius, scale);
+		int tail = new VectorBlur().blurColumns(source, actual, from, to, width, height, radius);
+		Blur.boxBlur(source, actual, tail, to, height, 1, width, radius, scale);
+
+		if (!Arrays.equals(expected, actual)) {
+			System.err.println("Vector blur differs from the scalar blur: " + width + " x " + height
+					+ ", columns " + from + " to " + to + ", radius " + radius);
+			System.exit(1);
+		}
+
+	}
+
+	private static int[] noise(int length, int seed) {
+		int[] pixels = new int[length];
+		for (int i = 0; i < length; i++) {
+			seed = seed * 1103515245 + 12345;
+			pixels[i] = seed;
+		}
+		return pixels;
+	}
+
+}